@@ -0,0 +1,307 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.listener.MessageFilterProbe;
+import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.ActionReference;
+import com.github.ygimenez.model.EmbedCluster;
+import com.github.ygimenez.model.InteractPage;
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.Paginator;
+import com.github.ygimenez.model.PaginatorBuilder;
+import com.github.ygimenez.model.TaskScheduler;
+import com.github.ygimenez.model.helper.LazyPaginateHelper;
+import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.model.source.CursorPage;
+import com.github.ygimenez.model.source.CursorPageSource;
+import com.github.ygimenez.model.source.PageSource;
+import com.github.ygimenez.model.store.SessionRecord;
+import com.github.ygimenez.model.store.SessionStore;
+import com.github.ygimenez.type.Action;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Checks library behaviors which benchmarks don't observe, such as resources being released once sessions end,
+ * failing (with a non-zero exit code) should any of them not hold. Sessions run over stubs which complete immediately.
+ * <br><br>
+ * Usage: {@code java -cp target/benchmarks.jar com.github.ygimenez.benchmark.Checks}
+ */
+public class Checks {
+	private final RestCounter counter = new RestCounter(RestLayer.IMMEDIATE);
+	private final Stubs stubs = new Stubs(counter);
+	private final Guild guild = stubs.guild(1);
+	private final MessageChannelUnion channel = stubs.channel(1, guild);
+	private final User user = stubs.user(1);
+	private final List<String> failures = new ArrayList<>();
+	private EventHandler handler;
+	private long nextId = 2;
+
+	/**
+	 * Runs every check.
+	 *
+	 * @param args Unused.
+	 * @throws Exception If a check cannot be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		Checks checks = new Checks();
+		Pages.activate(PaginatorBuilder.createPaginator(checks.stubs.getJDA()).build());
+		checks.handler = Pages.getHandler();
+
+		try {
+			checks.run();
+		} finally {
+			Pages.deactivate();
+		}
+
+		if (!checks.failures.isEmpty()) {
+			System.err.println();
+			System.err.println("Failed: " + String.join(", ", checks.failures));
+			System.exit(1);
+		}
+
+		System.exit(0);
+	}
+
+	private void run() {
+		check("stream source closed on cancel", () -> {
+			AtomicBoolean closed = new AtomicBoolean();
+			Message msg = lazyPaginate(closed, 0);
+
+			click(msg, Action.CANCEL);
+			return closed.get();
+		});
+		check("stream source closed on timeout", () -> {
+			AtomicBoolean closed = new AtomicBoolean();
+			lazyPaginate(closed, 50);
+
+			return await(closed::get);
+		});
+		check("cursor source disables next on last page", () -> {
+			Message msg = stubs.message(channel, nextId++, guild);
+			Pages.lazyPaginate(msg, new LazyPaginateHelper(new CursorPageSource<Integer>(c -> {
+				int i = c == null ? 0 : c;
+				Page page = InteractPage.of("Page " + (i + 1));
+
+				return i == 1 ? CursorPage.last(page) : CursorPage.of(page, i + 1);
+			}), true));
+
+			click(msg, Action.NEXT);
+			return "Page 2".equals(msg.getContentRaw()) && button(msg, Action.NEXT).isDisabled();
+		});
+		check("search applied once the index is built", () -> {
+			CountDownLatch gate = new CountDownLatch(1);
+			List<Page> pages = List.of(
+					InteractPage.of("alpha"),
+					InteractPage.of(new GatedCluster(gate, new EmbedBuilder().setDescription("beta").build())),
+					InteractPage.of("gamma")
+			);
+
+			Message msg = stubs.message(channel, nextId++, guild);
+			Pages.paginate(msg, new PaginateHelper(pages, true).setSearchable(true));
+
+			search(msg, "gamma");
+			boolean deferred = !"gamma".equals(msg.getContentRaw());
+			gate.countDown();
+
+			return deferred && await(() -> "gamma".equals(msg.getContentRaw()));
+		});
+		check("search without matches answered", () -> {
+			Message msg = stubs.message(channel, nextId++, guild);
+			PaginateHelper helper = new PaginateHelper(List.of(InteractPage.of("alpha")), true).setSearchable(true);
+			Pages.paginate(msg, helper);
+			helper.getIndex().prepare().join();
+
+			counter.reset();
+			search(msg, "delta");
+			return counter.getCalls().getOrDefault("POST webhooks", 0L) == 1;
+		});
+		for (int capacity : new int[]{100_000, 1_000_000}) {
+			check("message filter false positives at " + capacity, () -> {
+				double rate = MessageFilterProbe.falsePositiveRate(capacity, 100_000);
+				System.out.printf("  false-positive rate: %.2f%%%n", rate * 100);
+
+				return rate < 0.05;
+			});
+		}
+		check("slow session store loaded off the gateway thread", () -> {
+			Paginator paginator = PaginatorBuilder.createPaginator(stubs.getJDA())
+					.setSessionStore(new SlowStore(500), r -> new PaginateHelper(List.of(InteractPage.of("Page 1"), InteractPage.of("Page 2")), true))
+					.build();
+
+			paginator.activate();
+			try {
+				Message msg = stubs.message(channel, nextId++, guild);
+				Button next = ((InteractPage) InteractPage.of("Page 1")).makeButton(Action.NEXT);
+
+				long start = System.nanoTime();
+				paginator.getEvtHandler().onButtonInteraction(stubs.buttonClick(msg, user, next));
+				long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+				System.out.printf("  dispatch took %d ms%n", elapsed);
+
+				return elapsed < 250 && await(() -> "Page 2".equals(msg.getContentRaw()));
+			} finally {
+				paginator.deactivate();
+			}
+		});
+		check("running task not interrupted by its own cancel", () -> {
+			TaskScheduler scheduler = new TaskScheduler();
+			AtomicBoolean interrupted = new AtomicBoolean(true);
+			AtomicBoolean done = new AtomicBoolean();
+			try {
+				scheduler.schedule("task", () -> {
+					scheduler.cancel("task");
+					interrupted.set(Thread.currentThread().isInterrupted());
+					done.set(true);
+				}, 0, TimeUnit.MILLISECONDS);
+
+				return await(done::get) && !interrupted.get() && !scheduler.cancel("task");
+			} finally {
+				scheduler.shutdown();
+			}
+		});
+	}
+
+	/**
+	 * Runs a check and records it as failed should it not hold.
+	 *
+	 * @param name  The check name.
+	 * @param check The check, returning whether it holds.
+	 */
+	private void check(String name, Callable<Boolean> check) {
+		boolean ok;
+		try {
+			ok = check.call();
+		} catch (Exception e) {
+			e.printStackTrace();
+			ok = false;
+		}
+
+		System.out.printf("%-48s %s%n", name, ok ? "OK" : "FAILED");
+		if (!ok) {
+			failures.add(name);
+		}
+	}
+
+	/**
+	 * {@link EmbedCluster} holding off any thread but the one creating it until its gate is opened, used to keep a
+	 * page index from being built.
+	 */
+	private static class GatedCluster extends EmbedCluster {
+		private final CountDownLatch gate;
+		private final Thread owner = Thread.currentThread();
+
+		private GatedCluster(CountDownLatch gate, MessageEmbed... embeds) {
+			super(embeds);
+			this.gate = gate;
+		}
+
+		@Override
+		public List<MessageEmbed> getEmbeds() {
+			if (Thread.currentThread() != owner) {
+				try {
+					gate.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return super.getEmbeds();
+		}
+	}
+
+	/**
+	 * {@link SessionStore} returning a record for every ID, after a delay.
+	 */
+	private class SlowStore implements SessionStore {
+		private final long delay;
+
+		private SlowStore(long delay) {
+			this.delay = delay;
+		}
+
+		@Override
+		public void save(@NotNull SessionRecord record) {
+		}
+
+		@Override
+		public SessionRecord load(@NotNull String id) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return new SessionRecord(id, PaginateHelper.class.getSimpleName(), "key", guild.getIdLong(), channel.getIdLong(), 0, 0, 0);
+		}
+
+		@Override
+		public void remove(@NotNull String id) {
+		}
+	}
+
+	private Message lazyPaginate(AtomicBoolean closed, int timeout) {
+		Stream<Page> pages = IntStream.range(0, 10)
+				.mapToObj(i -> (Page) InteractPage.of("Page " + (i + 1)))
+				.onClose(() -> closed.set(true));
+
+		Message msg = stubs.message(channel, nextId++, guild);
+		LazyPaginateHelper helper = new LazyPaginateHelper(PageSource.of(pages), true);
+		if (timeout > 0) {
+			helper.setTimeout(timeout, TimeUnit.MILLISECONDS);
+		}
+
+		ActionReference ref = Pages.lazyPaginate(msg, helper);
+		if (!ref.check()) throw new IllegalStateException("Session was not started");
+
+		return msg;
+	}
+
+	private void click(Message msg, Action action) {
+		handler.onButtonInteraction(stubs.buttonClick(msg, user, button(msg, action)));
+	}
+
+	private void search(Message msg, String query) {
+		click(msg, Action.SEARCH);
+		handler.onModalInteraction(stubs.modalSubmit(msg, user, Action.SEARCH.name(), Action.SEARCH.name(), query));
+	}
+
+	private static Button button(Message msg, Action action) {
+		return Pages.getButtons(msg).stream()
+				.filter(b -> b.getCustomId() != null && b.getCustomId().startsWith(action.name()))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No " + action + " button found"));
+	}
+
+	private static boolean await(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() >= deadline) return false;
+
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,191 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.ButtonId;
+import com.github.ygimenez.model.EmojiId;
+import com.github.ygimenez.model.InteractPage;
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.helper.ButtonizeHelper;
+import com.github.ygimenez.model.helper.CategorizeHelper;
+import com.github.ygimenez.model.helper.LazyPaginateHelper;
+import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.type.Action;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Generator of synthetic sessions and user clicks. Clicks are always chosen so that they cause the message to be
+ * edited, which allows measuring the time between a click and its resulting edit.
+ */
+public class EventGenerator {
+	private final Stubs stubs;
+	private final boolean useButtons;
+	private final boolean lazyCache;
+
+	/**
+	 * The session types which can be generated.
+	 */
+	public enum Kind {
+		PAGINATE, CATEGORIZE, BUTTONIZE, LAZY_PAGINATE
+	}
+
+	/**
+	 * A generated session, tracking its current state as seen by users.
+	 */
+	public static class Session {
+		private final Kind kind;
+		private final Message message;
+		private final int pages;
+		private final List<Emoji> options;
+		private int page;
+		private Emoji current;
+
+		private Session(Kind kind, Message message, int pages, List<Emoji> options) {
+			this.kind = kind;
+			this.message = message;
+			this.pages = pages;
+			this.options = options;
+		}
+
+		/**
+		 * Retrieves the session type.
+		 *
+		 * @return The session type.
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Retrieves the message holding the session.
+		 *
+		 * @return The session's {@link Message}.
+		 */
+		public Message getMessage() {
+			return message;
+		}
+	}
+
+	/**
+	 * Creates a new event generator.
+	 *
+	 * @param stubs      The {@link Stubs} used to create events.
+	 * @param useButtons Whether sessions use interaction buttons or reactions.
+	 * @param lazyCache  Whether lazy sessions cache loaded pages.
+	 */
+	public EventGenerator(Stubs stubs, boolean useButtons, boolean lazyCache) {
+		this.stubs = stubs;
+		this.useButtons = useButtons;
+		this.lazyCache = lazyCache;
+	}
+
+	/**
+	 * Starts a new session on the supplied message.
+	 *
+	 * @param kind  The session type.
+	 * @param msg   The message to hold the session.
+	 * @param pages How many pages, categories or buttons the session has.
+	 * @return The created {@link Session}.
+	 */
+	public Session start(Kind kind, Message msg, int pages) {
+		List<Emoji> options = new ArrayList<>();
+		for (int i = 0; i < Math.min(pages, 20); i++) {
+			options.add(Emoji.fromUnicode(new String(Character.toChars(0x1F1E6 + i))));
+		}
+
+		switch (kind) {
+			case PAGINATE: {
+				List<Page> pgs = new ArrayList<>();
+				for (int i = 0; i < pages; i++) {
+					pgs.add(InteractPage.of("Page " + i));
+				}
+
+				Pages.paginate(msg, new PaginateHelper(pgs, useButtons));
+				break;
+			}
+			case CATEGORIZE: {
+				Map<ButtonId<?>, Page> cats = new LinkedHashMap<>();
+				for (Emoji e : options) {
+					cats.put(new EmojiId(e), InteractPage.of("Category " + e.getFormatted()));
+				}
+
+				Pages.categorize(msg, new CategorizeHelper(cats, useButtons));
+				break;
+			}
+			case BUTTONIZE: {
+				ButtonizeHelper helper = new ButtonizeHelper(useButtons);
+				for (Emoji e : options) {
+					helper.addAction(e, w -> w.getMessage().editMessage("Pressed " + e.getFormatted()).submit());
+				}
+
+				Pages.buttonize(msg, helper);
+				break;
+			}
+			case LAZY_PAGINATE:
+				Pages.lazyPaginate(msg, new LazyPaginateHelper(
+						i -> i < pages ? InteractPage.of("Page " + i) : null,
+						lazyCache ? new ArrayList<>() : null,
+						useButtons
+				));
+				break;
+		}
+
+		return new Session(kind, msg, pages, options);
+	}
+
+	/**
+	 * Dispatches a click on the supplied session to the {@link EventHandler}, as the gateway would.
+	 *
+	 * @param handler The {@link EventHandler} receiving the event.
+	 * @param session The clicked {@link Session}.
+	 * @param user    The user clicking.
+	 * @param rng     Source of randomness for choosing the clicked button.
+	 */
+	public void click(EventHandler handler, Session session, User user, SplittableRandom rng) {
+		if (useButtons) {
+			List<Button> enabled = Pages.getButtons(session.message).stream()
+					.filter(b -> !b.isDisabled() && b.getCustomId() != null && !b.getCustomId().startsWith(Action.CANCEL.name()))
+					.collect(Collectors.toList());
+
+			if (enabled.isEmpty()) {
+				throw new IllegalStateException("Session " + session.message.getId() + " has no enabled buttons");
+			}
+
+			handler.onButtonInteraction(stubs.buttonClick(session.message, user, enabled.get(rng.nextInt(enabled.size()))));
+		} else {
+			Emoji emoji = nextReaction(session, rng);
+			handler.onMessageReactionAdd(stubs.reactionAdd(session.message, user, (EmojiUnion) Emoji.fromFormatted(emoji.getFormatted()), true));
+		}
+	}
+
+	private Emoji nextReaction(Session session, SplittableRandom rng) {
+		switch (session.kind) {
+			case PAGINATE:
+			case LAZY_PAGINATE:
+				boolean next = session.page == 0 || (session.page < session.pages - 1 && rng.nextBoolean());
+				session.page += next ? 1 : -1;
+
+				return Pages.getPaginator().getEmoji(next ? Action.NEXT : Action.PREVIOUS);
+			case CATEGORIZE:
+				Emoji e;
+				do {
+					e = session.options.get(rng.nextInt(session.options.size()));
+				} while (e.equals(session.current) && session.options.size() > 1);
+
+				return session.current = e;
+			default:
+				return session.options.get(rng.nextInt(session.options.size()));
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.EventData;
+import com.github.ygimenez.model.InteractPage;
+import com.github.ygimenez.model.PaginatorBuilder;
+import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.type.Action;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of routing a single incoming event through {@link EventHandler}, either to a mapped session
+ * (whose action does nothing) or to an unmapped message, while the handler holds a varying number of sessions.
+ * <br>
+ * Run with {@code -prof gc} to obtain {@code gc.alloc.rate.norm}, the bytes allocated per dispatched event.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EventHandlerBenchmark {
+	private static final int EVENTS = 1024;
+	private static final int CHANNELS = 512;
+
+	@Param({"10", "1000", "100000", "1000000"})
+	private int sessions;
+
+	@Param({"true", "false"})
+	private boolean mapped;
+
+	private EventHandler handler;
+	private ButtonInteractionEvent[] clicks;
+	private MessageReactionAddEvent[] reactions;
+	private StringSelectInteractionEvent[] selections;
+
+	/**
+	 * Cursor over the pre-built events, kept per thread.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int i;
+
+		int next() {
+			return i++ & (EVENTS - 1);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		Stubs stubs = new Stubs(RestLayer.IMMEDIATE);
+		Pages.activate(PaginatorBuilder.createPaginator(stubs.getJDA()).setExpectedEvents(sessions).build());
+		handler = Pages.getHandler();
+
+		InteractPage page = InteractPage.of("Page");
+		PaginateHelper helper = new PaginateHelper(List.of(page), true);
+		Guild guild = stubs.guild(1);
+		MessageChannelUnion[] channels = new MessageChannelUnion[CHANNELS];
+		for (int i = 0; i < CHANNELS; i++) {
+			channels[i] = stubs.channel(i + 1, guild);
+		}
+
+		for (long i = 0; i < sessions; i++) {
+			MessageChannelUnion channel = channels[(int) (i % CHANNELS)];
+			String id = "GUILD_" + channel.getId() + "_" + (i + CHANNELS + 1);
+			Message ref = Stub.of(Message.class)
+					.returns("getIdLong", i + CHANNELS + 1)
+					.returns("isFromGuild", true)
+					.returns("getGuildIdLong", guild.getIdLong())
+					.returns("getChannel", channel)
+					.returns("getJDA", stubs.getJDA())
+					.build();
+
+			handler.addEvent(id, new EventData<>(ref, helper, (u, w) -> {
+			}, null));
+		}
+
+		SplittableRandom rng = new SplittableRandom(42);
+		User user = stubs.user(1);
+		Button button = page.makeButton(Action.NEXT);
+		EmojiUnion emoji = (EmojiUnion) Emoji.fromUnicode("▶");
+
+		clicks = new ButtonInteractionEvent[EVENTS];
+		reactions = new MessageReactionAddEvent[EVENTS];
+		selections = new StringSelectInteractionEvent[EVENTS];
+		for (int i = 0; i < EVENTS; i++) {
+			long msgId = mapped ? rng.nextInt(sessions) : sessions + i;
+			Message msg = stubs.message(channels[(int) (msgId % CHANNELS)], msgId + CHANNELS + 1, guild);
+
+			clicks[i] = stubs.buttonClick(msg, user, button);
+			reactions[i] = stubs.reactionAdd(msg, user, emoji, true);
+			selections[i] = stubs.selection(msg, user, "dropdown", List.of("value"));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		handler.clear();
+		Pages.deactivate();
+	}
+
+	@Benchmark
+	public void buttonInteraction(Cursor cursor) {
+		handler.onButtonInteraction(clicks[cursor.next()]);
+	}
+
+	@Benchmark
+	public void reactionAdd(Cursor cursor) {
+		handler.onMessageReactionAdd(reactions[cursor.next()]);
+	}
+
+	@Benchmark
+	public void selectMenuInteraction(Cursor cursor) {
+		handler.onGenericSelectMenuInteraction(selections[cursor.next()]);
+	}
+}
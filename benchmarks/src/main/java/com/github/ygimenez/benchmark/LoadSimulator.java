@@ -0,0 +1,279 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.PaginatorBuilder;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load simulator, driving paginate, categorize, buttonize and lazy-paginate sessions through a
+ * {@link SimulatedRest} layer and reporting clicks per second, click-to-edit latency and REST calls per click.
+ * <br>
+ * A fixed number of virtual users keep clicking on random sessions, each waiting for its click to be reflected on
+ * the message before clicking again. Events are dispatched from a single thread, as a shard's gateway would.
+ * <br><br>
+ * Usage: {@code java -cp target/benchmarks.jar com.github.ygimenez.benchmark.LoadSimulator [--option=value...]}
+ */
+public class LoadSimulator {
+	private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+	static {
+		DEFAULTS.put("mode", "mixed");
+		DEFAULTS.put("buttons", "true");
+		DEFAULTS.put("lazy-cache", "true");
+		DEFAULTS.put("sessions", "1000");
+		DEFAULTS.put("channels", "100");
+		DEFAULTS.put("pages", "10");
+		DEFAULTS.put("users", "100");
+		DEFAULTS.put("warmup", "5");
+		DEFAULTS.put("duration", "20");
+		DEFAULTS.put("latency", "50");
+		DEFAULTS.put("jitter", "25");
+		DEFAULTS.put("bucket-limit", "5");
+		DEFAULTS.put("bucket-window", "5000");
+		DEFAULTS.put("global-limit", "50");
+		DEFAULTS.put("error-rate", "0");
+		DEFAULTS.put("retry-after", "1000");
+		DEFAULTS.put("callback-threads", String.valueOf(Runtime.getRuntime().availableProcessors()));
+		DEFAULTS.put("click-timeout", "10000");
+	}
+
+	private final Map<Long, Click> pending = new ConcurrentHashMap<>();
+	private final Queue<EventGenerator.Session> idle = new ConcurrentLinkedQueue<>();
+	private final ExecutorService gateway = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "LoadSimulator-Gateway");
+		t.setDaemon(true);
+		return t;
+	});
+	private final ScheduledExecutorService driver = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "LoadSimulator-Driver");
+		t.setDaemon(true);
+		return t;
+	});
+	private final AtomicBoolean running = new AtomicBoolean(true);
+	private final LongAdder clicks = new LongAdder();
+	private final LongAdder lost = new LongAdder();
+	private final Latencies latencies = new Latencies();
+
+	private final Map<String, String> opts;
+	private final SimulatedRest rest;
+	private final Stubs stubs;
+	private final EventGenerator generator;
+	private EventHandler handler;
+
+	private static class Click {
+		private final EventGenerator.Session session;
+		private final long start = System.nanoTime();
+
+		private Click(EventGenerator.Session session) {
+			this.session = session;
+		}
+	}
+
+	private LoadSimulator(Map<String, String> opts) {
+		this.opts = opts;
+		this.rest = new SimulatedRest(integer("callback-threads"))
+				.setLatency(number("latency"), number("jitter"))
+				.setBucketLimit(integer("bucket-limit"), number("bucket-window"))
+				.setGlobalLimit(integer("global-limit"))
+				.setErrorRate(Double.parseDouble(opts.get("error-rate")), number("retry-after"));
+		this.stubs = new Stubs(rest);
+		this.generator = new EventGenerator(stubs, Boolean.parseBoolean(opts.get("buttons")), Boolean.parseBoolean(opts.get("lazy-cache")));
+	}
+
+	/**
+	 * Runs the simulator.
+	 *
+	 * @param args Options in the {@code --name=value} format, see {@link #DEFAULTS} for available ones.
+	 * @throws Exception If the simulation fails.
+	 */
+	public static void main(String[] args) throws Exception {
+		Map<String, String> opts = new LinkedHashMap<>(DEFAULTS);
+		for (String arg : args) {
+			String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+			if (!DEFAULTS.containsKey(kv[0]) || kv.length != 2) {
+				System.err.println("Unknown option " + arg + ", available options (with defaults):");
+				DEFAULTS.forEach((k, v) -> System.err.println("  --" + k + "=" + v));
+				System.exit(1);
+			}
+
+			opts.put(kv[0], kv[1]);
+		}
+
+		new LoadSimulator(opts).run();
+	}
+
+	private void run() throws Exception {
+		Pages.activate(PaginatorBuilder.createPaginator(stubs.getJDA()).build());
+		handler = Pages.getHandler();
+		stubs.setOnEdit(this::onEdit);
+
+		startSessions();
+		System.out.println("Started " + integer("sessions") + " sessions using " + rest.getActions() + " REST calls");
+
+		int users = Math.min(integer("users"), integer("sessions"));
+		for (int i = 0; i < users; i++) {
+			driver.execute(this::nextClick);
+		}
+		driver.scheduleAtFixedRate(this::expireClicks, 1, 1, TimeUnit.SECONDS);
+
+		Thread.sleep(number("warmup") * 1000);
+		clicks.reset();
+		lost.reset();
+		latencies.reset();
+		rest.resetStats();
+
+		long start = System.nanoTime();
+		Thread.sleep(number("duration") * 1000);
+		double elapsed = (System.nanoTime() - start) / 1e9;
+
+		long done = clicks.sum();
+		long actions = rest.getActions();
+		long requests = rest.getRequests();
+		long rateLimited = rest.getRateLimited();
+		long tooMany = rest.getTooManyRequests();
+		Map<String, Long> routes = rest.getRoutes();
+		long[] lat = latencies.snapshot();
+
+		running.set(false);
+		report(elapsed, done, actions, requests, rateLimited, tooMany, routes, lat);
+
+		Pages.deactivate();
+		System.exit(0);
+	}
+
+	private void startSessions() throws InterruptedException {
+		int sessions = integer("sessions");
+		int channels = integer("channels");
+		int pages = integer("pages");
+		String mode = opts.get("mode").toUpperCase(Locale.ROOT);
+		EventGenerator.Kind[] kinds = mode.equals("MIXED")
+				? EventGenerator.Kind.values()
+				: new EventGenerator.Kind[]{EventGenerator.Kind.valueOf(mode)};
+
+		Guild guild = stubs.guild(1);
+		MessageChannelUnion[] chns = new MessageChannelUnion[channels];
+		for (int i = 0; i < channels; i++) {
+			chns[i] = stubs.channel(i + 1, guild);
+		}
+
+		List<EventGenerator.Session> out = new ArrayList<>();
+		for (int i = 0; i < sessions; i++) {
+			Message msg = stubs.message(chns[i % channels], channels + i + 1, guild);
+			out.add(generator.start(kinds[i % kinds.length], msg, pages));
+		}
+
+		if (!rest.awaitIdle(600_000)) {
+			throw new IllegalStateException("Timed out while starting sessions");
+		}
+
+		Collections.shuffle(out, new Random(42));
+		idle.addAll(out);
+	}
+
+	private void nextClick() {
+		if (!running.get()) return;
+
+		EventGenerator.Session s = idle.poll();
+		if (s == null) {
+			driver.schedule(this::nextClick, 1, TimeUnit.MILLISECONDS);
+			return;
+		}
+
+		Click click = new Click(s);
+		pending.put(s.getMessage().getIdLong(), click);
+		gateway.execute(() -> {
+			SplittableRandom rng = new SplittableRandom(click.start);
+			try {
+				generator.click(handler, s, stubs.user(1 + rng.nextInt(1000)), rng);
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		});
+	}
+
+	private void onEdit(Message msg) {
+		Click click = pending.remove(msg.getIdLong());
+		if (click == null) return;
+
+		latencies.add(System.nanoTime() - click.start);
+		clicks.increment();
+		release(click);
+	}
+
+	private void expireClicks() {
+		long limit = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(number("click-timeout"));
+		for (Click click : pending.values()) {
+			if (click.start < limit && pending.remove(click.session.getMessage().getIdLong(), click)) {
+				lost.increment();
+				release(click);
+			}
+		}
+	}
+
+	private void release(Click click) {
+		idle.add(click.session);
+		driver.execute(this::nextClick);
+	}
+
+	private void report(double elapsed, long done, long actions, long requests, long rateLimited, long tooMany, Map<String, Long> routes, long[] lat) {
+		System.out.println();
+		System.out.println("Options: " + opts);
+		System.out.printf("Clicks:            %d in %.1fs (%d lost)%n", done, elapsed, lost.sum());
+		System.out.printf("Clicks/sec:        %.1f%n", done / elapsed);
+		System.out.printf("Click-to-edit:     p50 %.1fms, p99 %.1fms, max %.1fms%n",
+				percentile(lat, 0.5) / 1e6, percentile(lat, 0.99) / 1e6, percentile(lat, 1) / 1e6
+		);
+		System.out.printf("REST calls/click:  %.2f (%.2f HTTP requests)%n", ratio(actions, done), ratio(requests, done));
+		System.out.printf("Rate-limited:      %d (%.1f%%), 429 responses: %d%n", rateLimited, ratio(rateLimited * 100, actions), tooMany);
+		System.out.println("Calls per route:");
+		routes.forEach((k, v) -> System.out.printf("  %-56s %10d  %6.2f/click%n", k, v, ratio(v, done)));
+	}
+
+	private static double ratio(long a, long b) {
+		return b == 0 ? 0 : (double) a / b;
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		if (sorted.length == 0) return 0;
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+	}
+
+	private long number(String opt) {
+		return Long.parseLong(opts.get(opt));
+	}
+
+	private int integer(String opt) {
+		return Integer.parseInt(opts.get(opt));
+	}
+
+	private static class Latencies {
+		private long[] values = new long[1 << 16];
+		private int size;
+
+		private synchronized void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+
+			values[size++] = value;
+		}
+
+		private synchronized void reset() {
+			size = 0;
+		}
+
+		private synchronized long[] snapshot() {
+			long[] out = Arrays.copyOf(values, size);
+			Arrays.sort(out);
+			return out;
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.ActionReference;
+import com.github.ygimenez.model.InteractPage;
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.PaginatorBuilder;
+import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.type.Action;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Checks how many REST requests each library operation makes against a fixed budget, failing (with a non-zero exit
+ * code) should any operation exceed it. Requests are counted with a {@link RestCounter} over stubs which complete
+ * immediately, so every request made by an operation is counted before it returns, except for timeouts which are
+ * awaited.
+ * <br>
+ * Budgets reflect the current request counts, so that new hidden requests are caught; they should be lowered whenever
+ * an operation is optimized.
+ * <br><br>
+ * Usage: {@code java -cp target/benchmarks.jar com.github.ygimenez.benchmark.RestBudgets}
+ */
+public class RestBudgets {
+	private final RestCounter counter = new RestCounter(RestLayer.IMMEDIATE);
+	private final Stubs stubs = new Stubs(counter);
+	private final Guild guild = stubs.guild(1);
+	private final MessageChannelUnion channel = stubs.channel(1, guild);
+	private final User user = stubs.user(1);
+	private final List<String> failures = new ArrayList<>();
+	private EventHandler handler;
+	private long nextId = 2;
+
+	/**
+	 * A session as seen by a budgeted operation.
+	 */
+	private static class Session {
+		private final Message message;
+		private final ActionReference reference;
+
+		private Session(Message message, ActionReference reference) {
+			this.message = message;
+			this.reference = reference;
+		}
+	}
+
+	/**
+	 * Runs every budget check.
+	 *
+	 * @param args Unused.
+	 * @throws Exception If a check cannot be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		RestBudgets budgets = new RestBudgets();
+		Pages.activate(PaginatorBuilder.createPaginator(budgets.stubs.getJDA()).build());
+		budgets.handler = Pages.getHandler();
+
+		try {
+			budgets.run();
+		} finally {
+			Pages.deactivate();
+		}
+
+		if (!budgets.failures.isEmpty()) {
+			System.err.println();
+			System.err.println("Budget exceeded by: " + String.join(", ", budgets.failures));
+			System.exit(1);
+		}
+
+		System.exit(0);
+	}
+
+	private void run() throws InterruptedException {
+		System.out.printf("%-32s %6s %6s  %s%n", "Operation", "Calls", "Budget", "Routes");
+
+		check("paginate (buttons)", 1, true, 0, null);
+		check("paginate (reactions)", 3, false, 0, null);
+		check("addReactions", 0, false, 0, s -> Pages.addReactions(s.message, false, false));
+		check("re-paginate (reactions)", 0, false, 0, s -> Pages.paginate(s.message, new PaginateHelper(List.of(InteractPage.of("Page 1")), false)));
+		check("page flip (button)", 3, true, 0, s -> click(s, Action.NEXT));
+		check("page flip (reaction)", 2, false, 0, s -> react(s, Action.NEXT));
+		check("go to page (modal)", 4, true, 0, s -> jump(s, 2));
+		check("search (modal)", 4, true, 0, s -> search(s, "page 2"));
+		check("cancel (button)", 4, true, 0, s -> click(s, Action.CANCEL));
+		check("cancel (reaction)", 3, false, 0, s -> react(s, Action.CANCEL));
+		check("timeout finalization (buttons)", 2, true, 50, this::expire);
+		check("timeout finalization (reactions)", 2, false, 50, this::expire);
+	}
+
+	/**
+	 * Runs an operation over a new paginate session and compares the amount of requests it made to its budget.
+	 *
+	 * @param name       The operation name.
+	 * @param budget     The maximum amount of requests the operation may make.
+	 * @param useButtons Whether the session uses buttons or reactions.
+	 * @param timeout    The session timeout in milliseconds, or 0 for none.
+	 * @param op         The operation, or null to measure the session creation itself.
+	 */
+	private void check(String name, int budget, boolean useButtons, int timeout, Consumer<Session> op) {
+		List<Page> pages = List.of(InteractPage.of("Page 1"), InteractPage.of("Page 2"));
+		Message msg = stubs.message(channel, nextId++, guild);
+		PaginateHelper helper = new PaginateHelper(pages, useButtons).setPageJump(useButtons).setSearchable(useButtons);
+		if (timeout > 0) {
+			helper.setTimeout(timeout, TimeUnit.MILLISECONDS);
+		}
+
+		counter.reset();
+		Session s = new Session(msg, Pages.paginate(msg, helper));
+		if (op != null) {
+			if (helper.isSearchable()) helper.getIndex().prepare().join();
+
+			counter.reset();
+			op.accept(s);
+		}
+
+		Map<String, Long> calls = counter.getCalls();
+		long total = counter.getTotal();
+		System.out.printf("%-32s %6d %6d  %s%n", name, total, budget, calls);
+
+		if (total > budget) {
+			failures.add(name);
+		}
+
+		handler.removeEvent(handler.getEventId(msg));
+	}
+
+	private void click(Session s, Action action) {
+		Button btn = Pages.getButtons(s.message).stream()
+				.filter(b -> b.getCustomId() != null && b.getCustomId().startsWith(action.name()))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No " + action + " button found"));
+
+		handler.onButtonInteraction(stubs.buttonClick(s.message, user, btn));
+	}
+
+	private void jump(Session s, int page) {
+		click(s, Action.GOTO_PAGE);
+		handler.onModalInteraction(stubs.modalSubmit(s.message, user, Action.GOTO_PAGE.name(), Action.GOTO_PAGE.name(), String.valueOf(page)));
+	}
+
+	private void search(Session s, String query) {
+		click(s, Action.SEARCH);
+		handler.onModalInteraction(stubs.modalSubmit(s.message, user, Action.SEARCH.name(), Action.SEARCH.name(), query));
+	}
+
+	private void react(Session s, Action action) {
+		EmojiUnion emoji = Emoji.fromFormatted(Pages.getPaginator().getEmoji(action).getFormatted());
+		handler.onMessageReactionAdd(stubs.reactionAdd(s.message, user, emoji, true));
+	}
+
+	private void expire(Session s) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (s.reference.check() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
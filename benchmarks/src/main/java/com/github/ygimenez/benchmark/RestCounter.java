@@ -0,0 +1,61 @@
+package com.github.ygimenez.benchmark;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RestLayer} decorator counting every request made through it, grouped by route with IDs replaced by
+ * {@code {id}}.
+ */
+public class RestCounter implements RestLayer {
+	private static final Pattern ID = Pattern.compile("\\d+");
+
+	private final RestLayer delegate;
+	private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new counter.
+	 *
+	 * @param delegate The {@link RestLayer} which will actually execute requests.
+	 */
+	public RestCounter(RestLayer delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public CompletableFuture<Object> execute(String route, Object result) {
+		calls.computeIfAbsent(ID.matcher(route).replaceAll("{id}"), k -> new LongAdder()).increment();
+		return delegate.execute(route, result);
+	}
+
+	/**
+	 * Retrieves how many requests were made since the last {@link #reset()}.
+	 *
+	 * @return The amount of requests.
+	 */
+	public long getTotal() {
+		return calls.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * Retrieves how many requests were made per route since the last {@link #reset()}.
+	 *
+	 * @return A sorted {@link Map} of request count per route.
+	 */
+	public Map<String, Long> getCalls() {
+		Map<String, Long> out = new TreeMap<>();
+		calls.forEach((k, v) -> out.put(k, v.sum()));
+		return out;
+	}
+
+	/**
+	 * Resets all counters.
+	 */
+	public void reset() {
+		calls.clear();
+	}
+}
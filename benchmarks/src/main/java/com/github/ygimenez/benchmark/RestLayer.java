@@ -0,0 +1,25 @@
+package com.github.ygimenez.benchmark;
+
+import net.dv8tion.jda.api.requests.RestAction;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stand-in for Discord's REST API, deciding how and when each stubbed {@link RestAction} completes.
+ */
+@FunctionalInterface
+public interface RestLayer {
+	/**
+	 * Completes every request immediately, on the calling thread.
+	 */
+	RestLayer IMMEDIATE = (route, result) -> CompletableFuture.completedFuture(result);
+
+	/**
+	 * Executes a request.
+	 *
+	 * @param route  The route being requested, such as {@code "PATCH channels/1/messages/2"}.
+	 * @param result The value the request resolves to.
+	 * @return A future completed with the request result.
+	 */
+	CompletableFuture<Object> execute(String route, Object result);
+}
@@ -0,0 +1,40 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.model.TaskScheduler;
+
+/**
+ * Factory of the {@link TaskScheduler} implementations compared by the scheduler benchmarks, selected through their
+ * {@code implementation} parameter. New implementations only need to be registered here to be benchmarked alongside
+ * the existing ones, for example with {@code -p implementation=default,other}.
+ */
+public final class Schedulers {
+	private Schedulers() {
+	}
+
+	/**
+	 * Creates a new {@link TaskScheduler}.
+	 *
+	 * @param implementation The implementation name.
+	 * @return The created {@link TaskScheduler}.
+	 * @throws IllegalArgumentException If no implementation has the supplied name.
+	 */
+	public static TaskScheduler create(String implementation) {
+		switch (implementation) {
+			case "default":
+				return new TaskScheduler();
+			case "partitioned":
+				return new TaskScheduler(Runtime.getRuntime().availableProcessors());
+			default:
+				throw new IllegalArgumentException("Unknown scheduler implementation: " + implementation);
+		}
+	}
+
+	/**
+	 * Stops the worker threads of a {@link TaskScheduler}, so that trials don't leak them into each other.
+	 *
+	 * @param scheduler The {@link TaskScheduler} to be stopped.
+	 */
+	public static void shutdown(TaskScheduler scheduler) {
+		scheduler.shutdown();
+	}
+}
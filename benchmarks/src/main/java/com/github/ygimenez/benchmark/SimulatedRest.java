@@ -0,0 +1,254 @@
+package com.github.ygimenez.benchmark;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * {@link RestLayer} mimicking Discord's REST API behavior: every request takes a configurable latency, is subject to
+ * per-route and global rate-limit buckets and may randomly receive a 429 response, which is then retried as JDA
+ * would do.
+ * <br>
+ * Rate limits only apply to {@code channels/} routes, keyed by method, route and channel ID (the major parameter),
+ * as interaction callbacks aren't subject to bot rate limits. Requests are completed on a {@link ForkJoinPool},
+ * like JDA's default callback pool.
+ */
+public class SimulatedRest implements RestLayer {
+	private static final Pattern ID = Pattern.compile("\\d+");
+
+	private final ScheduledExecutorService requester = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "SimulatedRest-Requester");
+		t.setDaemon(true);
+		return t;
+	});
+	private final ForkJoinPool callbacks;
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> routes = new ConcurrentHashMap<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder actions = new LongAdder();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder rateLimited = new LongAdder();
+	private final LongAdder tooManyRequests = new LongAdder();
+
+	private long latency = 50;
+	private long jitter = 25;
+	private int bucketLimit = 5;
+	private long bucketWindow = 5000;
+	private int globalLimit = 50;
+	private double errorRate = 0;
+	private long retryAfter = 1000;
+	private Bucket global = new Bucket(globalLimit, 1000);
+
+	/**
+	 * Creates a new simulated REST layer.
+	 *
+	 * @param callbackThreads The parallelism of the pool completing requests.
+	 */
+	public SimulatedRest(int callbackThreads) {
+		this.callbacks = new ForkJoinPool(callbackThreads);
+	}
+
+	/**
+	 * Set the latency of each request.
+	 *
+	 * @param latency The base latency, in milliseconds.
+	 * @param jitter  The maximum random amount added to the base latency, in milliseconds.
+	 * @return The {@link SimulatedRest} instance for chaining convenience.
+	 */
+	public SimulatedRest setLatency(long latency, long jitter) {
+		this.latency = latency;
+		this.jitter = jitter;
+		return this;
+	}
+
+	/**
+	 * Set the limit of per-route buckets. Discord allows, for example, 5 message edits per channel every 5 seconds.
+	 *
+	 * @param limit  How many requests each bucket accepts per window, or 0 to disable per-route limits.
+	 * @param window The window duration, in milliseconds.
+	 * @return The {@link SimulatedRest} instance for chaining convenience.
+	 */
+	public SimulatedRest setBucketLimit(int limit, long window) {
+		this.bucketLimit = limit;
+		this.bucketWindow = window;
+		buckets.clear();
+		return this;
+	}
+
+	/**
+	 * Set the global limit shared by every rate-limited route.
+	 *
+	 * @param limit How many requests are accepted per second, or 0 to disable the global limit.
+	 * @return The {@link SimulatedRest} instance for chaining convenience.
+	 */
+	public SimulatedRest setGlobalLimit(int limit) {
+		this.globalLimit = limit;
+		this.global = new Bucket(limit, 1000);
+		return this;
+	}
+
+	/**
+	 * Set the chance of a request receiving a 429 response before succeeding.
+	 *
+	 * @param errorRate  The chance, between 0 and 1.
+	 * @param retryAfter How long to wait before retrying, in milliseconds.
+	 * @return The {@link SimulatedRest} instance for chaining convenience.
+	 */
+	public SimulatedRest setErrorRate(double errorRate, long retryAfter) {
+		this.errorRate = errorRate;
+		this.retryAfter = retryAfter;
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<Object> execute(String route, Object result) {
+		actions.increment();
+		requests.increment();
+		routes.computeIfAbsent(ID.matcher(route).replaceAll("{id}"), k -> new LongAdder()).increment();
+
+		long now = System.currentTimeMillis();
+		long sendAt = now;
+		if (route.contains(" channels/")) {
+			if (bucketLimit > 0) {
+				sendAt = buckets.computeIfAbsent(bucketKey(route), k -> new Bucket(bucketLimit, bucketWindow)).reserve(sendAt);
+			}
+			if (globalLimit > 0) {
+				sendAt = global.reserve(sendAt);
+			}
+
+			if (sendAt > now) {
+				rateLimited.increment();
+			}
+		}
+
+		ThreadLocalRandom rng = ThreadLocalRandom.current();
+		long delay = sendAt - now + latency + (jitter > 0 ? rng.nextLong(jitter + 1) : 0);
+		while (errorRate > 0 && rng.nextDouble() < errorRate) {
+			tooManyRequests.increment();
+			requests.increment();
+			delay += latency + retryAfter;
+		}
+
+		CompletableFuture<Object> out = new CompletableFuture<>();
+		inFlight.incrementAndGet();
+		requester.schedule(() -> callbacks.execute(() -> {
+			inFlight.decrementAndGet();
+			out.complete(result);
+		}), delay, TimeUnit.MILLISECONDS);
+
+		return out;
+	}
+
+	/**
+	 * Waits until every submitted request completes.
+	 *
+	 * @param timeout How long to wait, in milliseconds.
+	 * @return Whether every request completed in time.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public boolean awaitIdle(long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		while (inFlight.get() > 0) {
+			if (System.currentTimeMillis() > deadline) return false;
+			Thread.sleep(10);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Retrieves how many {@link net.dv8tion.jda.api.requests.RestAction}s were executed.
+	 *
+	 * @return The amount of executed actions.
+	 */
+	public long getActions() {
+		return actions.sum();
+	}
+
+	/**
+	 * Retrieves how many HTTP requests were made, including retries after 429 responses.
+	 *
+	 * @return The amount of requests.
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	/**
+	 * Retrieves how many requests were delayed by a rate-limit bucket.
+	 *
+	 * @return The amount of rate-limited requests.
+	 */
+	public long getRateLimited() {
+		return rateLimited.sum();
+	}
+
+	/**
+	 * Retrieves how many 429 responses were injected.
+	 *
+	 * @return The amount of 429 responses.
+	 */
+	public long getTooManyRequests() {
+		return tooManyRequests.sum();
+	}
+
+	/**
+	 * Retrieves how many actions were executed per route, with IDs replaced by {@code {id}}.
+	 *
+	 * @return A sorted {@link Map} of action count per route.
+	 */
+	public Map<String, Long> getRoutes() {
+		Map<String, Long> out = new TreeMap<>();
+		routes.forEach((k, v) -> out.put(k, v.sum()));
+		return out;
+	}
+
+	/**
+	 * Resets all counters, keeping the current rate-limit buckets.
+	 */
+	public void resetStats() {
+		actions.reset();
+		requests.reset();
+		rateLimited.reset();
+		tooManyRequests.reset();
+		routes.clear();
+	}
+
+	private static String bucketKey(String route) {
+		String[] parts = route.split("/");
+		StringBuilder sb = new StringBuilder(parts[0]);
+		for (int i = 1; i < parts.length; i++) {
+			sb.append('/').append(i > 1 && ID.matcher(parts[i]).matches() ? "{id}" : parts[i]);
+		}
+
+		return sb.toString();
+	}
+
+	private static class Bucket {
+		private final int limit;
+		private final long window;
+		private long windowStart;
+		private int used;
+
+		private Bucket(int limit, long window) {
+			this.limit = limit;
+			this.window = window;
+		}
+
+		private synchronized long reserve(long now) {
+			if (now >= windowStart + window) {
+				windowStart = now;
+				used = 0;
+			} else if (used >= limit) {
+				windowStart += window;
+				used = 0;
+			}
+
+			used++;
+			return Math.max(now, windowStart);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.github.ygimenez.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lightweight {@link Proxy}-based stub. Methods are answered by name, falling back to returning the stub itself for
+ * builder-like methods and to default values otherwise.
+ * <br>
+ * This is used instead of a mocking library so that stubs add as little overhead as possible to measured code.
+ *
+ * @param <T> The stubbed interface.
+ */
+public class Stub<T> implements InvocationHandler {
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private final Class<T> type;
+	private final Map<String, Answer> answers = new HashMap<>();
+
+	/**
+	 * Computes the value returned by a stubbed method.
+	 */
+	@FunctionalInterface
+	public interface Answer {
+		/**
+		 * Computes the value returned by a stubbed method.
+		 *
+		 * @param proxy The stub instance.
+		 * @param args  The method arguments, or an empty array.
+		 * @return The value to be returned.
+		 */
+		Object answer(Object proxy, Object[] args) throws Throwable;
+	}
+
+	private Stub(Class<T> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Starts stubbing an interface.
+	 *
+	 * @param type The interface to be stubbed.
+	 * @param <T>  The stubbed interface.
+	 * @return The {@link Stub} builder.
+	 */
+	public static <T> Stub<T> of(Class<T> type) {
+		return new Stub<>(type);
+	}
+
+	/**
+	 * Makes every method with the supplied name return a fixed value.
+	 *
+	 * @param method The method name.
+	 * @param value  The value to be returned.
+	 * @return The {@link Stub} builder for chaining convenience.
+	 */
+	public Stub<T> returns(String method, Object value) {
+		answers.put(method, (p, a) -> value);
+		return this;
+	}
+
+	/**
+	 * Makes every method with the supplied name be answered by the supplied {@link Answer}.
+	 *
+	 * @param method The method name.
+	 * @param answer The {@link Answer} computing the returned value.
+	 * @return The {@link Stub} builder for chaining convenience.
+	 */
+	public Stub<T> answers(String method, Answer answer) {
+		answers.put(method, answer);
+		return this;
+	}
+
+	/**
+	 * Creates the stub instance.
+	 *
+	 * @param extra Additional interfaces the stub must implement.
+	 * @return The stub instance.
+	 */
+	public T build(Class<?>... extra) {
+		Class<?>[] ifaces = new Class<?>[extra.length + 1];
+		ifaces[0] = type;
+		System.arraycopy(extra, 0, ifaces, 1, extra.length);
+
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), ifaces, this));
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Answer answer = answers.get(method.getName());
+		if (answer != null) {
+			return answer.answer(proxy, args == null ? NO_ARGS : args);
+		}
+
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+		}
+
+		Class<?> ret = method.getReturnType();
+		if (ret.isInstance(proxy)) {
+			return proxy;
+		} else if (ret == boolean.class) {
+			return false;
+		} else if (ret == long.class) {
+			return 0L;
+		} else if (ret == int.class) {
+			return 0;
+		} else if (ret.isPrimitive() && ret != void.class) {
+			throw new UnsupportedOperationException(method.toString());
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,449 @@
+package com.github.ygimenez.benchmark;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.components.MessageTopLevelComponent;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.components.tree.ComponentTree;
+import net.dv8tion.jda.api.components.tree.MessageComponentTree;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.entities.SelfUser;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
+import net.dv8tion.jda.api.entities.channel.unions.MessageChannelUnion;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.entities.emoji.EmojiUnion;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
+import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.components.buttons.ButtonInteraction;
+import net.dv8tion.jda.api.interactions.components.selections.StringSelectInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalInteraction;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import net.dv8tion.jda.api.requests.RestAction;
+import net.dv8tion.jda.api.requests.restaction.AuditableRestAction;
+import net.dv8tion.jda.api.requests.restaction.CacheRestAction;
+import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageCreateAction;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
+import net.dv8tion.jda.api.requests.restaction.interactions.ModalCallbackAction;
+import net.dv8tion.jda.api.utils.data.DataObject;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Factory of stubbed JDA entities and events. Every {@link RestAction} they create is routed through the supplied
+ * {@link RestLayer}, so no connection to Discord is ever made.
+ * <br>
+ * Events are real JDA event instances backed by stubbed interactions and entities, so the library sees the same
+ * event classes it would see in production. Their hooks and callback actions are created along with them, so
+ * dispatching a pre-built event allocates no stubs, while requests are still counted on every submission.
+ */
+public class Stubs {
+	private final RestLayer rest;
+	private final Map<Long, User> users = new ConcurrentHashMap<>();
+	private final Map<Long, Guild> guilds = new ConcurrentHashMap<>();
+	private final Map<String, Message> messages = new ConcurrentHashMap<>();
+	private final JDA jda;
+	private final SelfUser self;
+	private volatile Consumer<Message> onEdit;
+
+	/**
+	 * Creates a new stub factory.
+	 *
+	 * @param rest The {@link RestLayer} used to complete requests.
+	 */
+	public Stubs(RestLayer rest) {
+		this.rest = rest;
+		this.self = Stub.of(SelfUser.class)
+				.returns("getId", "0")
+				.returns("getIdLong", 0L)
+				.returns("isBot", true)
+				.build();
+		this.jda = Stub.of(JDA.class)
+				.returns("getSelfUser", self)
+				.answers("retrieveUserById", (p, args) -> {
+					long id = args[0] instanceof Long ? (Long) args[0] : Long.parseUnsignedLong(String.valueOf(args[0]));
+					return action(CacheRestAction.class, "GET users/" + id, user(id));
+				})
+				.build();
+	}
+
+	/**
+	 * Retrieves the stubbed {@link JDA} instance, suitable for activating the library.
+	 *
+	 * @return The stubbed {@link JDA}.
+	 */
+	public JDA getJDA() {
+		return jda;
+	}
+
+	/**
+	 * Retrieves the {@link RestLayer} used by this factory.
+	 *
+	 * @return The {@link RestLayer}.
+	 */
+	public RestLayer getRest() {
+		return rest;
+	}
+
+	/**
+	 * Creates a stubbed {@link RestAction} which resolves to the supplied result. Builder-like methods return the
+	 * action itself, while {@code submit}, {@code queue} and {@code complete} go through the {@link RestLayer}.
+	 *
+	 * @param type   The {@link RestAction} interface to be stubbed.
+	 * @param route  The route being requested.
+	 * @param result The value the request resolves to.
+	 * @param <R>    The type of the {@link RestAction}.
+	 * @return The stubbed {@link RestAction}.
+	 */
+	public <R extends RestAction<?>> R action(Class<R> type, String route, Object result) {
+		return action(type, () -> rest.execute(route, result));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R extends RestAction<?>> R action(Class<R> type, Supplier<CompletableFuture<Object>> request) {
+		return Stub.of(type)
+				.returns("getJDA", jda)
+				.answers("submit", (p, args) -> request.get())
+				.answers("complete", (p, args) -> request.get().join())
+				.answers("queue", (p, args) -> {
+					Consumer<Object> success = args.length > 0 ? (Consumer<Object>) args[0] : null;
+					Consumer<Throwable> failure = args.length > 1 ? (Consumer<Throwable>) args[1] : null;
+					request.get().whenComplete((r, t) -> {
+						if (t == null && success != null) success.accept(r);
+						else if (t != null && failure != null) failure.accept(t);
+					});
+
+					return null;
+				})
+				.answers("map", (p, args) -> {
+					Function<Object, Object> mapper = (Function<Object, Object>) args[0];
+					return action(RestAction.class, () -> request.get().thenApply(mapper));
+				})
+				.answers("flatMap", (p, args) -> {
+					Predicate<Object> condition = args.length > 1 ? (Predicate<Object>) args[0] : r -> true;
+					Function<Object, RestAction<Object>> mapper = (Function<Object, RestAction<Object>>) args[args.length - 1];
+					return action(RestAction.class, () -> request.get().thenCompose(r ->
+							condition.test(r) ? mapper.apply(r).submit() : CompletableFuture.completedFuture(r)
+					));
+				})
+				.answers("and", (p, args) -> {
+					RestAction<Object> other = (RestAction<Object>) args[0];
+					BiFunction<Object, Object, Object> combiner = args.length > 1
+							? (BiFunction<Object, Object, Object>) args[1]
+							: (a, b) -> null;
+
+					return action(RestAction.class, () -> request.get().thenCombine(other.submit(), combiner));
+				})
+				.build();
+	}
+
+	/**
+	 * Retrieves a stubbed {@link User}, creating it if needed.
+	 *
+	 * @param id The user ID.
+	 * @return The stubbed {@link User}.
+	 */
+	public User user(long id) {
+		return users.computeIfAbsent(id, k -> Stub.of(User.class)
+				.returns("getId", String.valueOf(id))
+				.returns("getIdLong", id)
+				.returns("getJDA", jda)
+				.build()
+		);
+	}
+
+	/**
+	 * Retrieves a stubbed {@link Guild}, creating it if needed.
+	 *
+	 * @param id The guild ID.
+	 * @return The stubbed {@link Guild}.
+	 */
+	public Guild guild(long id) {
+		return guilds.computeIfAbsent(id, k -> Stub.of(Guild.class)
+				.returns("getId", String.valueOf(id))
+				.returns("getIdLong", id)
+				.returns("getJDA", jda)
+				.returns("getSelfMember", null)
+				.build()
+		);
+	}
+
+	/**
+	 * Creates a stubbed {@link MessageChannelUnion}.
+	 *
+	 * @param id    The channel ID.
+	 * @param guild The {@link Guild} the channel belongs to, or null for a private channel.
+	 * @return The stubbed channel.
+	 */
+	public MessageChannelUnion channel(long id, Guild guild) {
+		String route = "channels/" + id + "/messages/";
+
+		return Stub.of(MessageChannelUnion.class)
+				.returns("getId", String.valueOf(id))
+				.returns("getIdLong", id)
+				.returns("getJDA", jda)
+				.returns("getType", guild == null ? ChannelType.PRIVATE : ChannelType.TEXT)
+				.returns("getGuild", guild)
+				.answers("retrieveMessageById", (p, args) -> {
+					String msgId = String.valueOf(args[0]);
+					return action(RestAction.class, "GET " + route + msgId, messages.get(msgId));
+				})
+				.build();
+	}
+
+	/**
+	 * Creates a stubbed {@link Message} sent by the bot, which can then be retrieved through its channel.
+	 * <br>
+	 * The message keeps track of its content, components and reactions, which are updated whenever a request
+	 * modifying them completes.
+	 *
+	 * @param channel The channel the message was sent in.
+	 * @param id      The message ID.
+	 * @param guild   The {@link Guild} the channel belongs to, or null for a private channel.
+	 * @return The stubbed {@link Message}.
+	 */
+	public Message message(MessageChannelUnion channel, long id, Guild guild) {
+		String route = "channels/" + channel.getId() + "/messages/" + id;
+		MessageState state = new MessageState();
+
+		Message msg = Stub.of(Message.class)
+				.returns("getId", String.valueOf(id))
+				.returns("getIdLong", id)
+				.returns("isFromGuild", guild != null)
+				.returns("getGuild", guild)
+				.returns("getGuildIdLong", guild == null ? 0L : guild.getIdLong())
+				.returns("getGuildId", guild == null ? null : guild.getId())
+				.returns("getChannel", channel)
+				.returns("getChannelType", channel.getType())
+				.returns("getJDA", jda)
+				.returns("getAuthor", self)
+				.answers("getContentRaw", (p, args) -> state.content)
+				.answers("getEmbeds", (p, args) -> state.embeds)
+				.answers("getComponentTree", (p, args) -> state.components)
+				.answers("getComponents", (p, args) -> state.components.getComponents())
+				.answers("getReactions", (p, args) -> state.getReactions(channel, id))
+				.answers("editMessageComponents", (p, args) -> edit((Message) p, state, route, null, null))
+				.answers("editMessage", (p, args) -> edit((Message) p, state, route, (String) args[0], null))
+				.answers("editMessageEmbeds", (p, args) -> edit((Message) p, state, route, null, toList(args[0])))
+				.answers("addReaction", (p, args) -> action(RestAction.class, () ->
+						rest.execute("PUT " + route + "/reactions/@me", null).thenApply(r -> {
+							state.reactions.add(((Emoji) args[0]).getFormatted());
+							return r;
+						})
+				))
+				.answers("clearReactions", (p, args) -> action(AuditableRestAction.class, () ->
+						rest.execute("DELETE " + route + "/reactions", null).thenApply(r -> {
+							state.reactions.clear();
+							return r;
+						})
+				))
+				.answers("delete", (p, args) -> action(AuditableRestAction.class, "DELETE " + route, null))
+				.build();
+
+		messages.put(msg.getId(), msg);
+		return msg;
+	}
+
+	/**
+	 * Set the listener notified whenever an edit to a stubbed {@link Message} completes, after its state was updated.
+	 *
+	 * @param onEdit The listener, or null to remove it.
+	 */
+	public void setOnEdit(@Nullable Consumer<Message> onEdit) {
+		this.onEdit = onEdit;
+	}
+
+	private MessageEditAction edit(Message msg, MessageState state, String route, String content, List<MessageEmbed> embeds) {
+		MessageState pending = new MessageState();
+		pending.content = content;
+		pending.embeds = embeds;
+		pending.components = null;
+
+		return Stub.of(MessageEditAction.class)
+				.answers("setContent", (p, args) -> {
+					pending.content = (String) args[0];
+					return p;
+				})
+				.answers("setEmbeds", (p, args) -> {
+					pending.embeds = toList(args[0]);
+					return p;
+				})
+				.answers("setComponents", (p, args) -> {
+					pending.components = args[0] instanceof ComponentTree
+							? MessageComponentTree.of(((ComponentTree<?>) args[0]).getComponents().stream()
+							.map(MessageTopLevelComponent.class::cast)
+							.collect(Collectors.toList()))
+							: MessageComponentTree.of(Stubs.<MessageTopLevelComponent>toList(args[0]));
+					return p;
+				})
+				.answers("getContent", (p, args) -> pending.content != null ? pending.content : state.content)
+				.answers("getEmbeds", (p, args) -> pending.embeds != null ? pending.embeds : state.embeds)
+				.answers("submit", (p, args) -> rest.execute("PATCH " + route, msg).thenApply(r -> {
+					if (pending.content != null) state.content = pending.content;
+					if (pending.embeds != null) state.embeds = pending.embeds;
+					if (pending.components != null) state.components = pending.components;
+
+					Consumer<Message> listener = onEdit;
+					if (listener != null) listener.accept(msg);
+
+					return r;
+				}))
+				.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> toList(Object arg) {
+		if (arg instanceof Object[]) {
+			return List.of((T[]) arg);
+		}
+
+		return List.copyOf((Collection<T>) arg);
+	}
+
+	/**
+	 * Creates a real {@link ButtonInteractionEvent} backed by a stubbed interaction.
+	 *
+	 * @param msg    The message holding the button.
+	 * @param user   The user who clicked.
+	 * @param button The button clicked.
+	 * @return The event.
+	 */
+	public ButtonInteractionEvent buttonClick(Message msg, User user, Button button) {
+		Stub<ButtonInteraction> stub = Stub.of(ButtonInteraction.class)
+				.returns("getComponentId", button.getCustomId())
+				.returns("getComponent", button)
+				.returns("getButton", button);
+
+		return new ButtonInteractionEvent(jda, 0, interaction(stub, msg, user));
+	}
+
+	/**
+	 * Creates a real {@link ModalInteractionEvent} backed by a stubbed interaction, for a modal holding a single text
+	 * input.
+	 *
+	 * @param msg     The message the modal was opened from.
+	 * @param user    The user who submitted the modal.
+	 * @param modalId The modal ID.
+	 * @param fieldId The text input ID.
+	 * @param value   The submitted value.
+	 * @return The event.
+	 */
+	public ModalInteractionEvent modalSubmit(Message msg, User user, String modalId, String fieldId, String value) {
+		DataObject data = DataObject.empty()
+				.put("id", 1)
+				.put("type", 4)
+				.put("custom_id", fieldId)
+				.put("value", value);
+		ModalMapping mapping = new ModalMapping(null, data, data);
+
+		Stub<ModalInteraction> stub = Stub.of(ModalInteraction.class)
+				.returns("getModalId", modalId)
+				.returns("getValues", List.of(mapping))
+				.answers("getValue", (p, args) -> fieldId.equals(args[0]) ? mapping : null);
+
+		return new ModalInteractionEvent(jda, 0, interaction(stub, msg, user));
+	}
+
+	/**
+	 * Creates a real {@link StringSelectInteractionEvent} backed by a stubbed interaction.
+	 *
+	 * @param msg         The message holding the dropdown.
+	 * @param user        The user who selected the values.
+	 * @param componentId The dropdown ID.
+	 * @param values      The selected values.
+	 * @return The event.
+	 */
+	public StringSelectInteractionEvent selection(Message msg, User user, String componentId, List<String> values) {
+		Stub<StringSelectInteraction> stub = Stub.of(StringSelectInteraction.class)
+				.returns("getComponentId", componentId)
+				.returns("getValues", values);
+
+		return new StringSelectInteractionEvent(jda, 0, interaction(stub, msg, user));
+	}
+
+	/**
+	 * Creates a real {@link MessageReactionAddEvent}.
+	 *
+	 * @param msg    The message being reacted to.
+	 * @param user   The user who reacted.
+	 * @param emoji  The emoji used.
+	 * @param cached Whether the user is cached, else the event will need to retrieve it.
+	 * @return The event.
+	 */
+	public MessageReactionAddEvent reactionAdd(Message msg, User user, EmojiUnion emoji, boolean cached) {
+		MessageReaction reaction = new MessageReaction(jda, msg.getChannel(), emoji, msg.getChannel().getIdLong(), msg.getIdLong(), new boolean[2], new int[2]);
+		return new MessageReactionAddEvent(jda, 0, cached ? user : null, null, reaction, user.getIdLong(), self.getIdLong());
+	}
+
+	private <T> T interaction(Stub<T> stub, Message msg, User user) {
+		AtomicReference<T> interaction = new AtomicReference<>();
+		InteractionHook hook = hook(interaction);
+		MessageEditCallbackAction defer = action(MessageEditCallbackAction.class, "POST interactions/callback", hook);
+		ModalCallbackAction modal = action(ModalCallbackAction.class, "POST interactions/callback", null);
+
+		interaction.set(stub
+				.returns("getJDA", jda)
+				.returns("getUser", user)
+				.returns("getGuild", msg.getGuild())
+				.returns("getChannel", msg.getChannel())
+				.returns("getChannelIdLong", msg.getChannel().getIdLong())
+				.returns("getMessage", msg)
+				.returns("getMessageIdLong", msg.getIdLong())
+				.returns("getMessageId", msg.getId())
+				.returns("getHook", hook)
+				.returns("deferEdit", defer)
+				.returns("replyModal", modal)
+				.build());
+
+		return interaction.get();
+	}
+
+	private InteractionHook hook(AtomicReference<?> interaction) {
+		return Stub.of(InteractionHook.class)
+				.answers("getInteraction", (p, args) -> interaction.get())
+				.returns("getJDA", jda)
+				.returns("editOriginalComponents", action(WebhookMessageEditAction.class, "PATCH webhooks/@original", null))
+				.returns("deleteOriginal", action(RestAction.class, "DELETE webhooks/@original", null))
+				.returns("sendMessage", action(WebhookMessageCreateAction.class, "POST webhooks", null))
+				.build();
+	}
+
+	private static class MessageState {
+		private final Set<String> reactions = new CopyOnWriteArraySet<>();
+		private volatile String content = "";
+		private volatile List<MessageEmbed> embeds = List.of();
+		private volatile MessageComponentTree components = MessageComponentTree.of(List.of());
+
+		private List<MessageReaction> getReactions(MessageChannelUnion channel, long id) {
+			List<MessageReaction> out = new ArrayList<>();
+			for (String r : reactions) {
+				out.add(new MessageReaction(channel.getJDA(), channel, Emoji.fromFormatted(r), channel.getIdLong(), id, new boolean[]{true, false}, new int[]{1, 0}));
+			}
+
+			return out;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.model.TaskScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link TaskScheduler#schedule(String, Runnable, long, TimeUnit)} replacing the timeout of an
+ * already scheduled session, which happens on every interaction with a paginated message.
+ * <br>
+ * The contended variant runs on 4 threads by default, use {@code -t} to change it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskSchedulerBenchmark {
+	private static final Runnable NOOP = () -> {
+	};
+
+	@Param({"default"})
+	private String implementation;
+
+	@Param({"1000", "100000"})
+	private int ids;
+
+	@Param({"60000"})
+	private long timeoutMs;
+
+	private TaskScheduler scheduler;
+	private String[] keys;
+
+	/**
+	 * Random source for picking session IDs, kept per thread.
+	 */
+	@State(Scope.Thread)
+	public static class Cursor {
+		private final SplittableRandom rng = new SplittableRandom();
+
+		int next(int bound) {
+			return rng.nextInt(bound);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		scheduler = Schedulers.create(implementation);
+		keys = new String[ids];
+		for (int i = 0; i < ids; i++) {
+			keys[i] = "GUILD_" + (i % 512 + 1) + "_" + (i + 513);
+			scheduler.schedule(keys[i], NOOP, timeoutMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Schedulers.shutdown(scheduler);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public ScheduledFuture<?> reschedule(Cursor cursor) {
+		return scheduler.schedule(keys[cursor.next(ids)], NOOP, timeoutMs, TimeUnit.MILLISECONDS);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ScheduledFuture<?> rescheduleContended(Cursor cursor) {
+		return scheduler.schedule(keys[cursor.next(ids)], NOOP, timeoutMs, TimeUnit.MILLISECONDS);
+	}
+}
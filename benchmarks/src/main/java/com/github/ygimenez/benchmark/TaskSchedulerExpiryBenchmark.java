@@ -0,0 +1,67 @@
+package com.github.ygimenez.benchmark;
+
+import com.github.ygimenez.model.TaskScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a {@link TaskScheduler} takes to schedule and run a burst of timeouts expiring at once, such as
+ * when many sessions created together reach their deadline, optionally while it also holds a backlog of sessions
+ * which are not due yet.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskSchedulerExpiryBenchmark {
+	@Param({"default"})
+	private String implementation;
+
+	@Param({"1000", "100000"})
+	private int expiring;
+
+	@Param({"0", "100000"})
+	private int pending;
+
+	private TaskScheduler scheduler;
+	private String[] keys;
+	private CountDownLatch latch;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		scheduler = Schedulers.create(implementation);
+		for (int i = 0; i < pending; i++) {
+			scheduler.schedule("GUILD_1_" + i, () -> {
+			}, 1, TimeUnit.HOURS);
+		}
+
+		keys = new String[expiring];
+		for (int i = 0; i < expiring; i++) {
+			keys[i] = "GUILD_2_" + i;
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void arm() {
+		latch = new CountDownLatch(expiring);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Schedulers.shutdown(scheduler);
+	}
+
+	@Benchmark
+	public void expire() throws InterruptedException {
+		CountDownLatch latch = this.latch;
+		for (String key : keys) {
+			scheduler.schedule(key, latch::countDown, 0, TimeUnit.MILLISECONDS);
+		}
+
+		latch.await();
+	}
+}
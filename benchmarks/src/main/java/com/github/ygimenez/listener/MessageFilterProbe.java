@@ -0,0 +1,34 @@
+package com.github.ygimenez.listener;
+
+import java.util.SplittableRandom;
+
+/**
+ * Exposes {@link MessageFilter} to the checks in this module, as the filter itself is internal to {@link EventHandler}.
+ */
+public final class MessageFilterProbe {
+	private MessageFilterProbe() {
+	}
+
+	/**
+	 * Fills a filter sized for the supplied capacity with as many random message IDs, then measures how often IDs
+	 * which weren't added pass it.
+	 *
+	 * @param capacity The capacity the filter is sized for, and the amount of IDs added to it.
+	 * @param probes   How many absent IDs to look up.
+	 * @return The ratio of absent IDs passing the filter.
+	 */
+	public static double falsePositiveRate(int capacity, int probes) {
+		MessageFilter filter = new MessageFilter(capacity);
+		SplittableRandom rng = new SplittableRandom(42);
+		for (int i = 0; i < capacity; i++) {
+			filter.add(rng.nextLong(1, Long.MAX_VALUE) | 1);
+		}
+
+		int passed = 0;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain(rng.nextLong(1, Long.MAX_VALUE) & ~1)) passed++;
+		}
+
+		return (double) passed / probes;
+	}
+}
@@ -0,0 +1,18 @@
+package com.github.ygimenez.exception;
+
+import com.github.ygimenez.model.Page;
+
+/**
+ * Exception thrown when a {@link Page} is created with content Discord would reject, such as text over the message
+ * length limit or embeds over the embed length limit.
+ */
+public class InvalidPageException extends IllegalArgumentException {
+	/**
+	 * Parametrized constructor.
+	 *
+	 * @param reason The limit which was exceeded.
+	 */
+	public InvalidPageException(String reason) {
+		super("Page content exceeds Discord limits: " + reason);
+	}
+}
@@ -0,0 +1,19 @@
+package com.github.ygimenez.exception;
+
+import com.github.ygimenez.type.QuotaPolicy;
+
+/**
+ * Exception thrown when creating an event would exceed an active event quota and the {@link QuotaPolicy} doesn't
+ * allow replacing an existing one.
+ */
+public class QuotaExceededException extends RuntimeException {
+	/**
+	 * Parametrized constructor.
+	 *
+	 * @param scope The scope whose quota was exceeded (such as "guild 123").
+	 * @param quota The quota which was exceeded.
+	 */
+	public QuotaExceededException(String scope, int quota) {
+		super(String.format("The limit of %d active events for %s has been reached", quota, scope));
+	}
+}
@@ -1,38 +1,147 @@
 package com.github.ygimenez.listener;
 
+import com.github.ygimenez.exception.QuotaExceededException;
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.*;
+import com.github.ygimenez.model.helper.*;
+import com.github.ygimenez.model.store.SessionRecord;
+import com.github.ygimenez.model.store.SessionStore;
+import com.github.ygimenez.model.jfr.Trace;
+import com.github.ygimenez.model.jfr.Tracer;
+import com.github.ygimenez.type.Action;
+import com.github.ygimenez.type.QuotaPolicy;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.components.buttons.Button;
+import net.dv8tion.jda.api.components.label.Label;
+import net.dv8tion.jda.api.components.textinput.TextInput;
+import net.dv8tion.jda.api.components.textinput.TextInputStyle;
 import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageReaction;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.events.channel.ChannelDeleteEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.UnavailableGuildLeaveEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.GenericSelectMenuInteractionEvent;
 import net.dv8tion.jda.api.events.message.GenericMessageEvent;
+import net.dv8tion.jda.api.events.message.MessageBulkDeleteEvent;
 import net.dv8tion.jda.api.events.message.MessageDeleteEvent;
 import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
 import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
 import net.dv8tion.jda.api.events.message.react.MessageReactionRemoveEvent;
+import net.dv8tion.jda.api.events.session.ShutdownEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IMessageEditCallback;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
+import net.dv8tion.jda.api.modals.Modal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 /**
  * Class responsible for handling reaction events sent by the handler.<br>
- * Only one event is added to the handler to prevent cluttering and unnecessary listeners.
+ * Only one event is added to the handler to prevent cluttering and unnecessary listeners.<br>
+ * <br>
+ * Events are also indexed by owner, channel and guild, allowing them to be queried and cancelled in bulk, as well as
+ * dropped as soon as their message can no longer be interacted with (such as bulk deletes, channel deletes, guild
+ * leaves and shard shutdowns).<br>
+ * <br>
+ * If a memory budget is set through {@link PaginatorBuilder#setMemoryBudget(long)}, events are also tracked in
+ * least-recently-used order, and the least recently used ones get finalized whenever the estimated weight of all
+ * active events exceeds the budget. Likewise, per-guild and per-user quotas set through
+ * {@link PaginatorBuilder#setGuildQuota(int)} and {@link PaginatorBuilder#setUserQuota(int)} are checked against the
+ * size of the indexes, without scanning active events.<br>
+ * <br>
+ * Events are stored in partitions, assigned by shard ID (see {@link PaginatorBuilder#setPartitions(int)}), so that
+ * shards don't contend for a single map and the events of a shard can be dropped without touching the others.<br>
+ * <br>
+ * If a {@link SessionStore} is set through {@link PaginatorBuilder#setSessionStore}, events with a session key are
+ * shared through it, and button or dropdown interactions targeting an event missing locally rehydrate it from the
+ * store instead of being treated as unmapped. Such interactions are acknowledged first, with the store being queried
+ * on the {@link Paginator#getStoreExecutor() store executor}, so slow stores don't hold the gateway thread (buttons
+ * opening a modal only open it on the next click). Reactions aren't resolved from the store, as they can't be told
+ * apart from unrelated ones without a lookup. Events are saved when created, while their expiration is only refreshed
+ * in the background once less than half of their timeout is left in the store.<br>
+ * <br>
+ * Reactions, interactions and deletions are first checked against a filter of the messages holding active events, so
+ * that those unrelated to the library (such as polls and starboards) are discarded before any lookup or logging.
  */
 public class EventHandler extends ListenerAdapter {
-	private final Map<String, EventData<?, ?>> events = new ConcurrentHashMap<>();
+	private static final Map<Action, Modal> MODALS = Map.of(
+			Action.GOTO_PAGE, Modal.create(Action.GOTO_PAGE.name(), "Go to page")
+					.addComponents(Label.of("Page number", TextInput.create(Action.GOTO_PAGE.name(), TextInputStyle.SHORT)
+							.setRequiredRange(1, 10)
+							.build()
+					))
+					.build(),
+			Action.SEARCH, Modal.create(Action.SEARCH.name(), "Search")
+					.addComponents(Label.of("Search for", TextInput.create(Action.SEARCH.name(), TextInputStyle.SHORT)
+							.setRequiredRange(1, 100)
+							.build()
+					))
+					.build()
+	);
+
+	private final Paginator paginator;
+	private final List<Map<String, EventData<?, ?>>> partitions;
+	private final Map<Long, Set<String>> byChannel = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> byGuild = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> byUser = new ConcurrentHashMap<>();
 	private final Set<String> locks = ConcurrentHashMap.newKeySet();
+	private final MessageFilter filter;
+	private final LinkedHashMap<String, Long> weights = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<EventData<?, ?>>> rehydrating = new ConcurrentHashMap<>();
+	private long memoryUsage = 0;
 
 	/**
-	 * Creates a new {@link EventHandler} instance.
+	 * Creates a new {@link EventHandler} instance, bound to the library-wide {@link Paginator}.
 	 */
 	public EventHandler() {
+		this.paginator = null;
+		this.partitions = createPartitions(1);
+		this.filter = new MessageFilter(0);
+	}
+
+	/**
+	 * Creates a new {@link EventHandler} instance, bound to the supplied {@link Paginator} engine.
+	 *
+	 * @param paginator The {@link Paginator} owning this handler.
+	 */
+	public EventHandler(@NotNull Paginator paginator) {
+		this.paginator = paginator;
+		this.partitions = createPartitions(paginator.getPartitions());
+		this.filter = new MessageFilter(paginator.getExpectedEvents());
+	}
+
+	private static List<Map<String, EventData<?, ?>>> createPartitions(int amount) {
+		List<Map<String, EventData<?, ?>>> out = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, amount); i++) {
+			out.add(new ConcurrentHashMap<>());
+		}
+
+		return Collections.unmodifiableList(out);
+	}
+
+	private Paginator getPaginator() {
+		return paginator != null ? paginator : Pages.getPaginator();
 	}
 
 	/**
@@ -45,20 +154,115 @@ public class EventHandler extends ListenerAdapter {
 	 * is still being processed or was already removed (i.e., garbage collected).
 	 */
 	public ActionReference addEvent(@NotNull String id, @NotNull EventData<?, ?> evt) {
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Added event with ID " + id);
-		events.put(id, evt);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Added event with ID " + id);
+		filter.add(evt.getMessageId());
+		EventData<?, ?> prev = getPartition(evt.getShardId()).put(id, evt);
+		if (prev != null) {
+			unindex(id, prev);
+			filter.remove(prev.getMessageId());
+		}
+		index(id, evt);
+		charge(id, evt);
+		share(id, evt);
+
+		return new ActionReference(id, this);
+	}
+
+	/**
+	 * Checks whether a new event can be created on the supplied {@link Message} without exceeding the guild and user
+	 * quotas, making room for it according to the {@link QuotaPolicy} if needed. Events replacing an existing one on
+	 * the same message are always admitted.
+	 * <br>
+	 * Quotas are checked before the event is added, so concurrent creations may briefly exceed them.
+	 *
+	 * @param msg    The {@link Message} which will hold the event.
+	 * @param helper The {@link com.github.ygimenez.model.helper.BaseHelper} instance associated with the event.
+	 * @throws QuotaExceededException Thrown if a quota was reached and no event could be replaced.
+	 */
+	public void admit(@NotNull Message msg, @NotNull BaseHelper<?, ?> helper) throws QuotaExceededException {
+		Paginator paginator = getPaginator();
+		if (paginator.getGuildQuota() <= 0 && paginator.getUserQuota() <= 0) return;
+		if (getEvent(getEventId(msg)) != null) return;
+
+		long ownerId = EventData.getOwnerId(msg, helper);
+		if (paginator.getUserQuota() > 0 && ownerId != 0) {
+			enforce(byUser.get(ownerId), paginator.getUserQuota(), ownerId, "user " + ownerId);
+		}
+		if (paginator.getGuildQuota() > 0 && msg.isFromGuild()) {
+			enforce(byGuild.get(msg.getGuildIdLong()), paginator.getGuildQuota(), ownerId, "guild " + msg.getGuildIdLong());
+		}
+	}
 
-		return new ActionReference(id);
+	private void enforce(@Nullable Set<String> ids, int quota, long ownerId, String scope) {
+		QuotaPolicy policy = getPaginator().getQuotaPolicy();
+		while (ids != null && ids.size() >= quota) {
+			String victim = null;
+			if (policy == QuotaPolicy.REPLACE_OLDEST) {
+				victim = getOldest(ids, 0);
+			} else if (policy == QuotaPolicy.REPLACE_SAME_USER && ownerId != 0) {
+				victim = getOldest(ids, ownerId);
+			}
+
+			if (victim == null) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_3, "Event quota reached for " + scope);
+				throw new QuotaExceededException(scope, quota);
+			}
+
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_3, "Event quota reached for " + scope + ", replacing event with ID " + victim);
+			cancelEvent(victim);
+			if (ids.contains(victim)) {
+				removeEvent(victim);
+			}
+		}
+	}
+
+	@Nullable
+	private String getOldest(Set<String> ids, long ownerId) {
+		String oldest = null;
+		long createdAt = 0;
+		for (String id : ids) {
+			EventData<?, ?> evt = getEvent(id);
+			if (evt == null || (ownerId != 0 && evt.getOwnerId() != ownerId)) continue;
+
+			if (oldest == null || evt.getCreatedAt() - createdAt < 0) {
+				oldest = id;
+				createdAt = evt.getCreatedAt();
+			}
+		}
+
+		return oldest;
 	}
 
 	/**
-	 * Removes an event from the handler.
+	 * Removes an event from the handler, cancelling its scheduled timeout if any.
 	 *
 	 * @param id The event ID.
 	 */
 	public void removeEvent(@NotNull String id) {
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Removed event with ID " + id);
-		events.remove(id);
+		removeEvent(id, true);
+	}
+
+	private void removeEvent(String id, boolean forget) {
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Removed event with ID " + id);
+		EventData<?, ?> evt = null;
+		for (Map<String, EventData<?, ?>> part : partitions) {
+			evt = part.remove(id);
+			if (evt != null) {
+				unindex(id, evt);
+				filter.remove(evt.getMessageId());
+				break;
+			}
+		}
+
+		if (evt != null) close(id, evt);
+
+		discharge(id);
+		expiries.remove(id);
+		locks.remove(id);
+		if (forget && evt != null && evt.getHelper().getSessionKey() != null) {
+			forget(id);
+		}
+		getPaginator().getScheduler().cancel(id);
 	}
 
 	/**
@@ -69,17 +273,29 @@ public class EventHandler extends ListenerAdapter {
 	 */
 	public boolean checkEvent(@Nullable String hash) {
 		if (hash == null) return false;
-		return events.containsKey(hash);
+		return getEvent(hash) != null;
 	}
 
 	/**
 	 * Retrieves the event handler map. This will contain all currently active events being handled by
-	 * the library mapped by {@link MessageChannel} ID plus the {@link Message} ID.
+	 * the library mapped by {@link MessageChannel} ID plus the {@link Message} ID.<br>
+	 * <br>
+	 * If events are split across multiple partitions, this will be a snapshot of all partitions instead of a live
+	 * view.
 	 *
 	 * @return An unmodifiable {@link Map} containing events handled by the library.
 	 */
 	public Map<String, EventData<?, ?>> getEventMap() {
-		return Collections.unmodifiableMap(events);
+		if (partitions.size() == 1) {
+			return Collections.unmodifiableMap(partitions.get(0));
+		}
+
+		Map<String, EventData<?, ?>> out = new HashMap<>();
+		for (Map<String, EventData<?, ?>> part : partitions) {
+			out.putAll(part);
+		}
+
+		return Collections.unmodifiableMap(out);
 	}
 
 	/**
@@ -88,17 +304,511 @@ public class EventHandler extends ListenerAdapter {
 	 * <b>WARNING:</b> This will break <u>all</u> active pagination, use it with caution.
 	 */
 	public void clear() {
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Cleared all active events");
-		events.clear();
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Cleared all active events");
+		for (Map<String, EventData<?, ?>> part : partitions) {
+			for (Map.Entry<String, EventData<?, ?>> e : part.entrySet()) {
+				close(e.getKey(), e.getValue());
+			}
+
+			part.clear();
+		}
+		byChannel.clear();
+		byGuild.clear();
+		byUser.clear();
+		filter.clear();
+		expiries.clear();
+
+		synchronized (weights) {
+			weights.clear();
+			memoryUsage = 0;
+		}
+	}
+
+	/**
+	 * Retrieves the estimated weight of all active events, in bytes. This is only tracked if a memory budget is set
+	 * through {@link PaginatorBuilder#setMemoryBudget(long)}, being always 0 otherwise.
+	 *
+	 * @return The estimated memory usage of active events.
+	 */
+	public long getMemoryUsage() {
+		synchronized (weights) {
+			return memoryUsage;
+		}
+	}
+
+	/**
+	 * Retrieves the IDs of all active events owned by the supplied user. See
+	 * {@link com.github.ygimenez.model.helper.BaseHelper#setOwner(User)} for how owners are determined.
+	 *
+	 * @param userId The user ID.
+	 * @return An unmodifiable live view of the event IDs.
+	 */
+	public Set<String> getUserEvents(long userId) {
+		return view(byUser, userId);
+	}
+
+	/**
+	 * Retrieves the IDs of all active events in the supplied channel.
+	 *
+	 * @param channelId The channel ID.
+	 * @return An unmodifiable live view of the event IDs.
+	 */
+	public Set<String> getChannelEvents(long channelId) {
+		return view(byChannel, channelId);
+	}
+
+	/**
+	 * Retrieves the IDs of all active events in the supplied guild. Private channel events are indexed under guild ID
+	 * 0.
+	 *
+	 * @param guildId The guild ID.
+	 * @return An unmodifiable live view of the event IDs.
+	 */
+	public Set<String> getGuildEvents(long guildId) {
+		return view(byGuild, guildId);
+	}
+
+	/**
+	 * Cancels an event as if its user had pressed the {@link com.github.ygimenez.type.Action#CANCEL} button, removing
+	 * its buttons (or deleting the message, if configured to) and the event itself. Events which weren't created by
+	 * {@link Pages} are only removed.
+	 * <br>
+	 * This blocks while the message is being updated.
+	 *
+	 * @param id The event ID.
+	 * @return Whether the event existed.
+	 */
+	public boolean cancelEvent(@NotNull String id) {
+		EventData<?, ?> evt = getEvent(id);
+		if (evt == null) return false;
+
+		if (!evt.cancel()) {
+			removeEvent(id);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Cancels all active events owned by the supplied user, see {@link #cancelEvent(String)}.
+	 *
+	 * @param userId The user ID.
+	 * @return How many events were cancelled.
+	 */
+	public int cancelUserEvents(long userId) {
+		return cancelEvents(byUser.get(userId));
+	}
+
+	/**
+	 * Cancels all active events in the supplied channel, see {@link #cancelEvent(String)}.
+	 *
+	 * @param channelId The channel ID.
+	 * @return How many events were cancelled.
+	 */
+	public int cancelChannelEvents(long channelId) {
+		return cancelEvents(byChannel.get(channelId));
+	}
+
+	/**
+	 * Cancels all active events in the supplied guild, see {@link #cancelEvent(String)}.
+	 *
+	 * @param guildId The guild ID.
+	 * @return How many events were cancelled.
+	 */
+	public int cancelGuildEvents(long guildId) {
+		return cancelEvents(byGuild.get(guildId));
+	}
+
+	/**
+	 * Retrieves the IDs of all active events belonging to the supplied shard. Events in private channels belong to
+	 * shard 0, see {@link EventData#getShardId()}.
+	 *
+	 * @param shardId The shard ID, as given by {@link JDA.ShardInfo#getShardId()}.
+	 * @return A {@link Set} containing the event IDs.
+	 */
+	public Set<String> getShardEvents(int shardId) {
+		Set<String> out = new HashSet<>();
+		for (Map.Entry<String, EventData<?, ?>> e : getPartition(shardId).entrySet()) {
+			if (e.getValue().getChannelId() != 0 && e.getValue().getShardId() == shardId) {
+				out.add(e.getKey());
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * Cancels all active events belonging to the supplied shard, see {@link #cancelEvent(String)}. Only the partition
+	 * holding the shard is scanned.
+	 *
+	 * @param shardId The shard ID, as given by {@link JDA.ShardInfo#getShardId()}.
+	 * @return How many events were cancelled.
+	 */
+	public int cancelShardEvents(int shardId) {
+		return cancelEvents(getShardEvents(shardId));
+	}
+
+	/**
+	 * Removes all active events belonging to the supplied shard without finalizing them, such as when the shard is
+	 * shut down. Their {@link SessionStore} records are kept, so that whichever node takes over the shard can resume
+	 * them.
+	 *
+	 * @param shardId The shard ID, as given by {@link JDA.ShardInfo#getShardId()}.
+	 * @return How many events were removed.
+	 */
+	public int dropShardEvents(int shardId) {
+		Set<String> ids = getShardEvents(shardId);
+		for (String id : ids) {
+			removeEvent(id, false);
+		}
+
+		return ids.size();
+	}
+
+	/**
+	 * Retrieves the ID of the shard the supplied {@link JDA} instance represents.
+	 *
+	 * @param jda The {@link JDA} instance.
+	 * @return The shard ID, or 0 if not sharded.
+	 */
+	public static int getShardId(@NotNull JDA jda) {
+		JDA.ShardInfo info = jda.getShardInfo();
+		return info == null ? 0 : info.getShardId();
+	}
+
+	private Map<String, EventData<?, ?>> getPartition(int shardId) {
+		return partitions.get(Math.floorMod(shardId, partitions.size()));
+	}
+
+	@Nullable
+	private EventData<?, ?> getEvent(int shardId, String id) {
+		EventData<?, ?> evt = getPartition(shardId).get(id);
+		if (evt == null && partitions.size() > 1) {
+			evt = partitions.get(0).get(id);
+		}
+
+		return evt;
+	}
+
+	@Nullable
+	private EventData<?, ?> getEvent(String id) {
+		for (Map<String, EventData<?, ?>> part : partitions) {
+			EventData<?, ?> evt = part.get(id);
+			if (evt != null) return evt;
+		}
+
+		return null;
+	}
+
+	private int cancelEvents(@Nullable Set<String> ids) {
+		if (ids == null) return 0;
+
+		int cancelled = 0;
+		for (String id : new ArrayList<>(ids)) {
+			if (cancelEvent(id)) cancelled++;
+		}
+
+		return cancelled;
+	}
+
+	private static Set<String> view(Map<Long, Set<String>> index, long key) {
+		Set<String> ids = index.get(key);
+		if (ids == null) return Collections.emptySet();
+
+		return Collections.unmodifiableSet(ids);
+	}
+
+	private void index(String id, EventData<?, ?> evt) {
+		long channel = getChannelId(id, evt);
+		if (channel != 0) {
+			index(byChannel, channel, id);
+		}
+		if (evt.getChannelId() != 0) {
+			index(byGuild, evt.getGuildId(), id);
+		}
+		if (evt.getOwnerId() != 0) {
+			index(byUser, evt.getOwnerId(), id);
+		}
+	}
+
+	private void unindex(String id, EventData<?, ?> evt) {
+		long channel = getChannelId(id, evt);
+		if (channel != 0) {
+			unindex(byChannel, channel, id);
+		}
+		if (evt.getChannelId() != 0) {
+			unindex(byGuild, evt.getGuildId(), id);
+		}
+		if (evt.getOwnerId() != 0) {
+			unindex(byUser, evt.getOwnerId(), id);
+		}
+	}
+
+	private static void index(Map<Long, Set<String>> index, long key, String id) {
+		index.compute(key, (k, ids) -> {
+			if (ids == null) {
+				ids = ConcurrentHashMap.newKeySet();
+			}
+
+			ids.add(id);
+			return ids;
+		});
+	}
+
+	private static void unindex(Map<Long, Set<String>> index, long key, String id) {
+		index.computeIfPresent(key, (k, ids) -> {
+			ids.remove(id);
+			return ids.isEmpty() ? null : ids;
+		});
+	}
+
+	private static long getChannelId(String id, EventData<?, ?> evt) {
+		if (evt.getChannelId() != 0) return evt.getChannelId();
+
+		String[] parts = id.split("_");
+		if (parts.length != 3) return 0;
+
+		try {
+			return Long.parseUnsignedLong(parts[1]);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private void share(String id, EventData<?, ?> evt) {
+		SessionStore store = getPaginator().getSessionStore();
+		String key = evt.getHelper().getSessionKey();
+		if (store == null || key == null || evt.getChannelId() == 0) return;
+
+		long timeout = evt.getHelper().getTimeout();
+		long expiresAt = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+		try {
+			store.save(new SessionRecord(
+					id, evt.getHelper().getClass().getSimpleName(), key,
+					evt.getGuildId(), evt.getChannelId(), evt.getMessageId(), evt.getOwnerId(),
+					expiresAt
+			));
+			if (expiresAt > 0) {
+				expiries.put(id, expiresAt);
+			}
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "Failed to save event with ID " + id, e);
+		}
+	}
+
+	private void close(String id, EventData<?, ?> evt) {
+		if (!(evt.getHelper() instanceof LazyPaginateHelper)) return;
+
+		try {
+			((LazyPaginateHelper) evt.getHelper()).close();
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "Failed to close page source of event with ID " + id, e);
+		}
+	}
+
+	private void refresh(String id, EventData<?, ?> evt) {
+		Long stored = expiries.get(id);
+		long timeout = evt.getHelper().getTimeout();
+		if (stored == null || stored - System.currentTimeMillis() > timeout / 2) return;
+
+		expiries.put(id, System.currentTimeMillis() + timeout);
+		CompletableFuture.runAsync(() -> {
+			if (getEvent(id) == evt) share(id, evt);
+		}, getPaginator().getStoreExecutor());
+	}
+
+	private void forget(String id) {
+		SessionStore store = getPaginator().getSessionStore();
+		if (store == null) return;
+
+		try {
+			store.remove(id);
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "Failed to remove stored event with ID " + id, e);
+		}
+	}
+
+	private CompletableFuture<EventData<?, ?>> rehydrate(int shard, String id, Message msg) {
+		CompletableFuture<EventData<?, ?>> out = new CompletableFuture<>();
+		CompletableFuture<EventData<?, ?>> pending = rehydrating.putIfAbsent(id, out);
+		if (pending != null) return pending;
+
+		try {
+			getPaginator().getStoreExecutor().execute(() -> {
+				try {
+					out.complete(load(shard, id, msg));
+				} finally {
+					rehydrating.remove(id, out);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rehydrating.remove(id, out);
+			out.complete(null);
+		}
+
+		return out;
+	}
+
+	@Nullable
+	private EventData<?, ?> load(int shard, String id, Message msg) {
+		EventData<?, ?> evt = getEvent(shard, id);
+		if (evt != null || getPaginator().getSessionStore() == null) return evt;
+
+		SessionRecord record;
+		try {
+			record = getPaginator().getSessionStore().load(id);
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "Failed to load stored event with ID " + id, e);
+			return null;
+		}
+
+		if (record == null) return null;
+		else if (record.isExpired()) {
+			forget(id);
+			return null;
+		}
+
+		try {
+			BaseHelper<?, ?> helper = getPaginator().getRehydrator().apply(record);
+			if (helper == null) return null;
+
+			if (record.getExpiresAt() > 0) {
+				long remaining = Math.max(1, record.getExpiresAt() - System.currentTimeMillis());
+				helper.setTimeout((int) Math.min(remaining, Integer.MAX_VALUE), TimeUnit.MILLISECONDS);
+			}
+			if (helper.getOwnerId() == 0) {
+				helper.setOwner(record.getOwnerId());
+			}
+			if (helper.getSessionKey() == null) {
+				helper.setSessionKey(record.getKey());
+			}
+
+			if (helper instanceof PaginateHelper) {
+				Pages.paginate(getPaginator(), msg, (PaginateHelper) helper);
+			} else if (helper instanceof CategorizeHelper) {
+				Pages.categorize(getPaginator(), msg, (CategorizeHelper) helper);
+			} else if (helper instanceof ButtonizeHelper) {
+				Pages.buttonize(getPaginator(), msg, (ButtonizeHelper) helper);
+			} else if (helper instanceof LazyPaginateHelper) {
+				Pages.lazyPaginate(getPaginator(), msg, (LazyPaginateHelper) helper);
+			} else {
+				return null;
+			}
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "Failed to rehydrate event with ID " + id, e);
+			return null;
+		}
+
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_3, "Rehydrated event with ID " + id + " from session store");
+		return getEvent(shard, id);
+	}
+
+	private void charge(String id, EventData<?, ?> evt) {
+		long budget = getPaginator().getMemoryBudget();
+		if (budget <= 0) return;
+
+		long weight = evt.getWeight();
+		List<String> victims = new ArrayList<>();
+		synchronized (weights) {
+			Long prev = weights.put(id, weight);
+			memoryUsage += weight - (prev == null ? 0 : prev);
+
+			Iterator<Map.Entry<String, Long>> it = weights.entrySet().iterator();
+			while (memoryUsage > budget && it.hasNext()) {
+				Map.Entry<String, Long> e = it.next();
+				if (e.getKey().equals(id)) continue;
+
+				victims.add(e.getKey());
+				memoryUsage -= e.getValue();
+				it.remove();
+			}
+		}
+
+		for (String victim : victims) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_3, "Memory budget exceeded, evicting event with ID " + victim);
+			EventData<?, ?> data = getEvent(victim);
+			if (data != null) {
+				getPaginator().getScheduler().execute(data.getShardId(), () -> cancelEvent(victim));
+			}
+		}
+	}
+
+	private void touch(String id, EventData<?, ?> evt) {
+		if (getPaginator().getMemoryBudget() <= 0) return;
+
+		long weight = evt.getWeight();
+		synchronized (weights) {
+			Long prev = weights.get(id);
+			if (prev != null && prev != weight) {
+				weights.put(id, weight);
+				memoryUsage += weight - prev;
+			}
+		}
+	}
+
+	private void discharge(String id) {
+		synchronized (weights) {
+			Long weight = weights.remove(id);
+			if (weight != null) {
+				memoryUsage -= weight;
+			}
+		}
+	}
+
+	private void dismiss(IMessageEditCallback evt) {
+		evt.deferEdit().submit().whenComplete((hook, t) -> removeComponents(evt.getHook()));
+	}
+
+	private void removeComponents(InteractionHook hook) {
+		try {
+			getPaginator().getOnRemove().accept(hook);
+		} catch (RuntimeException e) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when removing buttons from an unmapped message", e);
+		}
+	}
+
+	/**
+	 * Acknowledges an interaction and hands the event it targets to the supplied consumer. Events missing locally are
+	 * looked up in the {@link SessionStore} only after acknowledging, and off the gateway thread, so that slow stores
+	 * can't make the interaction expire. Interactions targeting no event get their components removed instead.
+	 */
+	private void acknowledge(IMessageEditCallback evt, String id, int shard, Message msg, @Nullable EventData<?, ?> act, BiConsumer<InteractionHook, EventData<?, ?>> then) {
+		evt.deferEdit().submit().whenComplete((hook, t) -> {
+			if (t != null) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when processing event with ID " + id, t);
+				return;
+			} else if (act != null) {
+				then.accept(hook, act);
+				return;
+			}
+
+			rehydrate(shard, id, msg).thenAccept(found -> {
+				if (found == null) {
+					removeComponents(hook);
+					getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
+					return;
+				}
+
+				then.accept(hook, found);
+			});
+		});
+	}
+
+	private void removeEvents(@Nullable Set<String> ids) {
+		if (ids == null) return;
+
+		for (String id : new ArrayList<>(ids)) {
+			removeEvent(id);
+		}
 	}
 
 	private synchronized void lock(@NotNull String id) {
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Locked event with ID " + id);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Locked event with ID " + id);
 		locks.add(id);
 	}
 
 	private synchronized void unlock(@NotNull String id) {
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Unlocked event with ID " + id);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Unlocked event with ID " + id);
 		locks.remove(id);
 	}
 
@@ -108,127 +818,264 @@ public class EventHandler extends ListenerAdapter {
 
 	@Override
 	public void onMessageReactionAdd(@NotNull MessageReactionAddEvent evt) {
+		if (!filter.mightContain(evt.getMessageIdLong())) return;
+
 		execute(evt);
 	}
 
 	@Override
 	public void onMessageReactionRemove(@NotNull MessageReactionRemoveEvent evt) {
-		if (!Pages.getPaginator().isRemoveOnReact() || !evt.isFromGuild()) {
+		if (!filter.mightContain(evt.getMessageIdLong())) return;
+
+		if (!getPaginator().isRemoveOnReact() || !evt.isFromGuild()) {
 			execute(evt);
 		}
 	}
 
 	@Override
 	public void onMessageDelete(@NotNull MessageDeleteEvent evt) {
-		events.remove(getEventId(evt));
+		if (!filter.mightContain(evt.getMessageIdLong())) return;
+
+		removeEvent(getEventId(evt));
+	}
+
+	@Override
+	public void onMessageBulkDelete(@NotNull MessageBulkDeleteEvent evt) {
+		String prefix = "GUILD_" + evt.getChannel().getId() + "_";
+		for (String id : evt.getMessageIds()) {
+			removeEvent(prefix + id);
+		}
+	}
+
+	@Override
+	public void onChannelDelete(@NotNull ChannelDeleteEvent evt) {
+		removeEvents(byChannel.get(evt.getChannel().getIdLong()));
+	}
+
+	@Override
+	public void onGuildLeave(@NotNull GuildLeaveEvent evt) {
+		removeEvents(byGuild.get(evt.getGuild().getIdLong()));
+	}
+
+	@Override
+	public void onUnavailableGuildLeave(@NotNull UnavailableGuildLeaveEvent evt) {
+		removeEvents(byGuild.get(evt.getGuildIdLong()));
+	}
+
+	@Override
+	public void onShutdown(@NotNull ShutdownEvent evt) {
+		dropShardEvents(getShardId(evt.getJDA()));
 	}
 
 	private void execute(GenericMessageReactionEvent evt) {
 		String id = getEventId(evt);
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received reaction event with ID " + id);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received reaction event with ID " + id);
 
-		EventData<?, ?> act = events.get(id);
+		int shard = getShardId(evt.getJDA());
+		EventData<?, ?> act = getEvent(shard, id);
 		if (act == null) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
 			return;
 		}
 
-		evt.retrieveMessage().submit().whenComplete((m, t) ->
-				evt.retrieveUser().submit().whenComplete((u, thr) -> {
-					InteractionData data = new InteractionData(evt.getReaction().getEmoji().getFormatted(), m, evt.getUser());
-					if (u.isBot() || !act.getHelper().canInteract(data)) {
-						Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
-						return;
-					}
+		User cached = evt.getUser();
+		if (cached != null && cached.isBot()) {
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event" + id + " was triggered by a bot. Ignored");
+			return;
+		}
 
-					processEvent(
-							t, id, u, new PaginationEventWrapper(
-									evt, u, evt.getChannel(), m, evt.getReaction(), evt.isFromGuild()
-							)
-					);
-				})
-		);
+		CompletableFuture<Message> message = evt.retrieveMessage().submit();
+		CompletableFuture<User> user = cached != null ? CompletableFuture.completedFuture(cached) : evt.retrieveUser().submit();
+		CompletableFuture.allOf(message, user).whenComplete((v, t) -> {
+			if (t != null) {
+				processEvent(t, id, shard, null, null);
+				return;
+			}
+
+			Message m = message.join();
+			User u = user.join();
+			InteractionData data = new InteractionData(evt.getReaction().getEmoji().getFormatted(), m, u);
+			if (u.isBot() || !act.getHelper().canInteract(data)) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+				return;
+			}
+
+			processEvent(null, id, shard, u, new PaginationEventWrapper(
+					evt, u, evt.getChannel(), m, evt.getReaction(), evt.isFromGuild(), true
+			));
+		});
 	}
 
 	@Override
 	public void onButtonInteraction(@NotNull ButtonInteractionEvent evt) {
+		if (!mightBeMapped(evt.getMessageIdLong())) {
+			dismiss(evt);
+			return;
+		}
+
 		String id = getEventId(evt);
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received button event with ID " + id);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received button event with ID " + id);
 
-		EventData<?, ?> act = events.get(id);
-		if (act == null) {
-			evt.deferEdit().submit().whenComplete((hook, t) -> Pages.getPaginator().getOnRemove().accept(evt.getHook()));
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
+		int shard = getShardId(evt.getJDA());
+		EventData<?, ?> act = getEvent(shard, id);
+		if (act == null && getPaginator().getSessionStore() == null) {
+			dismiss(evt);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
 			return;
 		}
 
-		evt.deferEdit().submit().whenComplete((hook, t) -> {
+		Action action = Action.fromButton(evt.getButton());
+		Modal modal = action == null ? null : MODALS.get(action);
+		if (modal != null && act != null) {
 			InteractionData data = new InteractionData(evt.getComponentId(), evt.getMessage(), evt.getUser());
 			if (evt.getUser().isBot() || !act.getHelper().canInteract(data)) {
-				Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+				evt.deferEdit().submit();
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+				return;
+			}
+
+			evt.replyModal(modal).submit();
+			return;
+		}
+
+		acknowledge(evt, id, shard, evt.getMessage(), act, (hook, found) -> {
+			InteractionData data = new InteractionData(evt.getComponentId(), evt.getMessage(), evt.getUser());
+			if (evt.getUser().isBot() || !found.getHelper().canInteract(data)) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+				return;
+			} else if (modal != null) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event rehydrated, modal will open on the next click");
 				return;
 			}
 
 			User u = hook.getInteraction().getUser();
-			processEvent(t, id, u, new PaginationEventWrapper(
+			processEvent(null, id, shard, u, new PaginationEventWrapper(
 					evt, u, evt.getChannel(), evt.getMessage(), evt.getButton(), evt.isFromGuild()
 			));
 		});
 	}
 
-	private void processEvent(Throwable t, String id, User u, PaginationEventWrapper evt) {
+	@Override
+	public void onModalInteraction(@NotNull ModalInteractionEvent evt) {
+		Message msg = evt.getMessage();
+		ModalMapping value = evt.getValue(evt.getModalId());
+		if (msg == null || value == null || MODALS.keySet().stream().noneMatch(a -> a.name().equals(evt.getModalId()))) return;
+
+		if (!mightBeMapped(msg.getIdLong())) {
+			dismiss(evt);
+			return;
+		}
+
+		String id = getEventId(msg);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received modal values for event with ID " + id);
+
+		int shard = getShardId(evt.getJDA());
+		EventData<?, ?> act = getEvent(shard, id);
+		if (act == null && getPaginator().getSessionStore() == null) {
+			dismiss(evt);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
+			return;
+		}
+
+		acknowledge(evt, id, shard, msg, act, (hook, found) -> {
+			InteractionData data = new InteractionData(evt.getModalId(), msg, evt.getUser());
+			if (evt.getUser().isBot() || !found.getHelper().canInteract(data)) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+				return;
+			}
+
+			processEvent(null, id, shard, evt.getUser(), new PaginationEventWrapper(
+					evt, evt.getUser(), evt.getChannel(), msg, value, evt.isFromGuild()
+			));
+		});
+	}
+
+	private void processEvent(Throwable t, String id, int shard, User u, PaginationEventWrapper evt) {
 		if (t != null) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when processing event with ID " + id, t);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when processing event with ID " + id, t);
 			return;
 		}
 
 		if (u.isBot() || isLocked(id)) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event" + id + " was triggered by a bot or is locked. Ignored");
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event" + id + " was triggered by a bot or is locked. Ignored");
 			return;
 		}
 
 		try {
-			if (Pages.getPaginator().isEventLocked()) lock(id);
+			if (getPaginator().isEventLocked()) lock(id);
 
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Searching for action for event with ID " + id);
-			EventData<?, ?> act = events.get(id);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Searching for action for event with ID " + id);
+			EventData<?, ?> act = getEvent(shard, id);
 
 			if (act != null) {
-				Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Action found");
-				act.getAction().accept(u, evt);
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Action found");
+				touch(id, act);
+				if (act.getHelper().getTimeout() > 0) {
+					refresh(id, act);
+				}
+				try (Trace trace = Tracer.begin(Tracer.Type.DISPATCH)) {
+					if (trace.isRecording()) {
+						trace.setSessionId(id).setAction(getActionName(evt)).setHelper(act.getHelper());
+					}
+
+					act.getAction().accept(u, evt);
+				}
 			} else {
-				Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Action not found");
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Action not found");
 			}
 		} catch (RuntimeException e) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when processing event with ID " + id, e);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when processing event with ID " + id, e);
 		} finally {
-			if (Pages.getPaginator().isEventLocked()) unlock(id);
+			if (getPaginator().isEventLocked()) unlock(id);
 		}
 	}
 
 	@Override
 	public void onGenericSelectMenuInteraction(@NotNull GenericSelectMenuInteractionEvent evt) {
+		if (!mightBeMapped(evt.getMessageIdLong())) {
+			dismiss(evt);
+			return;
+		}
+
 		String id = getEventId(evt.getMessage());
-		Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received dropdown values for event with ID " + id);
+		getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Received dropdown values for event with ID " + id);
 
-		EventData<?, ?> act = events.get(id);
-		if (act == null) {
-			evt.deferEdit().submit().whenComplete((hook, t) -> Pages.getPaginator().getOnRemove().accept(evt.getHook()));
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
+		int shard = getShardId(evt.getJDA());
+		EventData<?, ?> act = getEvent(shard, id);
+		if (act == null && getPaginator().getSessionStore() == null) {
+			dismiss(evt);
+			getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Event not mapped, skipping");
 			return;
 		}
 
-		evt.deferEdit().submit().whenComplete((hook, t) -> {
+		acknowledge(evt, id, shard, evt.getMessage(), act, (hook, found) -> {
 			InteractionData data = new InteractionData(evt.getComponentId(), evt.getMessage(), evt.getUser());
-			if (evt.getUser().isBot() || !act.getHelper().canInteract(data)) {
-				Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
+			if (evt.getUser().isBot() || !found.getHelper().canInteract(data)) {
+				getPaginator().log(PUtilsConfig.LogLevel.LEVEL_4, "Interaction not allowed by canInteract, skipping");
 				return;
 			}
 
-			act.getHelper().getDropdownValues().put(data.getId(), evt.getValues());
+			found.getHelper().getDropdownValues().put(data.getId(), evt.getValues());
 		});
 	}
 
+	private boolean mightBeMapped(long messageId) {
+		return getPaginator().getSessionStore() != null || filter.mightContain(messageId);
+	}
+
+	private String getActionName(PaginationEventWrapper evt) {
+		if (evt.getContent() instanceof Button) {
+			String id = ((Button) evt.getContent()).getCustomId();
+			return id == null ? null : ButtonId.ID_PATTERN.split(id)[0];
+		} else if (evt.getContent() instanceof MessageReaction) {
+			return ((MessageReaction) evt.getContent()).getEmoji().getFormatted();
+		} else if (evt.getContent() instanceof ModalMapping) {
+			return ((ModalMapping) evt.getContent()).getCustomId();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Calculate internal event ID from a given message. This does not mean the event exists though, but the ID will be
 	 * valid if a {@link Pages} action is created for this message.
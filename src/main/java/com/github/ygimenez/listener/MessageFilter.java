@@ -0,0 +1,112 @@
+package com.github.ygimenez.listener;
+
+import com.github.ygimenez.model.PaginatorBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counting Bloom filter over the {@link net.dv8tion.jda.api.entities.Message} IDs of active events, used by
+ * {@link EventHandler} to discard unrelated reactions and interactions before building event IDs or logging.<br>
+ * <br>
+ * Lookups may yield false positives (which fall back to the regular event lookup), but never false negatives, as long
+ * as every {@link #add(long)} is paired with a {@link #remove(long)}. Events not bound to a message can't be filtered,
+ * so the filter lets everything through while any exists.<br>
+ * <br>
+ * The filter is sized for an expected amount of events (see {@link PaginatorBuilder#setExpectedEvents(int)}), with at
+ * least 8 counters per event, keeping false positives around 3% up to that amount. Past it, false positives grow
+ * steadily, making the filter less useful but never incorrect.
+ */
+class MessageFilter {
+	static final int DEFAULT_CAPACITY = 8192;
+	private static final int COUNTERS_PER_ID = 8;
+	private static final int HASHES = 3;
+
+	private final AtomicIntegerArray counters;
+	private final AtomicInteger unbound = new AtomicInteger();
+	private final int mask;
+
+	/**
+	 * Creates a filter sized for the supplied amount of message IDs.
+	 *
+	 * @param capacity The expected amount of message IDs, or 0 for the default.
+	 */
+	MessageFilter(int capacity) {
+		long wanted = (long) (capacity > 0 ? capacity : DEFAULT_CAPACITY) * COUNTERS_PER_ID;
+		int size = (int) Math.min(1 << 30, Long.highestOneBit(wanted - 1) << 1);
+
+		this.counters = new AtomicIntegerArray(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Adds a message ID to the filter.
+	 *
+	 * @param messageId The message ID, or 0 for events not bound to a message.
+	 */
+	void add(long messageId) {
+		if (messageId == 0) {
+			unbound.incrementAndGet();
+			return;
+		}
+
+		long hash = mix(messageId);
+		for (int i = 0; i < HASHES; i++) {
+			counters.incrementAndGet(index(hash, i));
+		}
+	}
+
+	/**
+	 * Removes a message ID previously added to the filter.
+	 *
+	 * @param messageId The message ID, or 0 for events not bound to a message.
+	 */
+	void remove(long messageId) {
+		if (messageId == 0) {
+			unbound.decrementAndGet();
+			return;
+		}
+
+		long hash = mix(messageId);
+		for (int i = 0; i < HASHES; i++) {
+			counters.decrementAndGet(index(hash, i));
+		}
+	}
+
+	/**
+	 * Checks whether an event might exist for the supplied message ID.
+	 *
+	 * @param messageId The message ID.
+	 * @return False if no event exists for the message, true if one might.
+	 */
+	boolean mightContain(long messageId) {
+		if (unbound.get() > 0) return true;
+
+		long hash = mix(messageId);
+		for (int i = 0; i < HASHES; i++) {
+			if (counters.get(index(hash, i)) <= 0) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Removes every message ID from the filter.
+	 */
+	void clear() {
+		for (int i = 0; i < counters.length(); i++) {
+			counters.set(i, 0);
+		}
+		unbound.set(0);
+	}
+
+	private int index(long hash, int i) {
+		return ((int) hash + i * (int) (hash >>> 32)) & mask;
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+		value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return value ^ (value >>> 33);
+	}
+}
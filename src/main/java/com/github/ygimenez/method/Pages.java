@@ -3,12 +3,15 @@ package com.github.ygimenez.method;
 import com.github.ygimenez.exception.AlreadyActivatedException;
 import com.github.ygimenez.exception.InvalidHandlerException;
 import com.github.ygimenez.exception.InvalidStateException;
+import com.github.ygimenez.exception.QuotaExceededException;
 import com.github.ygimenez.listener.EventHandler;
 import com.github.ygimenez.model.*;
 import com.github.ygimenez.model.helper.ButtonizeHelper;
 import com.github.ygimenez.model.helper.CategorizeHelper;
 import com.github.ygimenez.model.helper.LazyPaginateHelper;
 import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.model.jfr.Trace;
+import com.github.ygimenez.model.jfr.Tracer;
 import com.github.ygimenez.type.Action;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.components.MessageTopLevelComponentUnion;
@@ -23,6 +26,7 @@ import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
 import net.dv8tion.jda.api.exceptions.ErrorResponseException;
 import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
 import net.dv8tion.jda.api.requests.RestAction;
 import net.dv8tion.jda.api.requests.restaction.MessageEditAction;
 import net.dv8tion.jda.api.sharding.ShardManager;
@@ -67,17 +71,11 @@ public abstract class Pages {
 	public static void activate(@NotNull Paginator paginator) throws InvalidHandlerException {
 		if (isActivated()) throw new AlreadyActivatedException();
 
-		Object hand = paginator.getHandler();
-		if (hand instanceof JDA) {
-			((JDA) hand).addEventListener(paginator.getEvtHandler());
-		} else if (hand instanceof ShardManager) {
-			((ShardManager) hand).addEventListener(paginator.getEvtHandler());
-		} else {
-			throw new InvalidHandlerException();
+		if (!paginator.isActivated()) {
+			paginator.activate();
 		}
 
 		Pages.paginator = paginator;
-		paginator.log(PUtilsConfig.LogLevel.LEVEL_3, "Pagination Utils activated successfully");
 	}
 
 	/**
@@ -88,14 +86,7 @@ public abstract class Pages {
 	public static void deactivate() {
 		if (!isActivated()) return;
 
-		Object hand = paginator.getHandler();
-		if (hand instanceof JDA) {
-			((JDA) hand).removeEventListener(paginator.getEvtHandler());
-		} else if (hand instanceof ShardManager) {
-			((ShardManager) hand).removeEventListener(paginator.getEvtHandler());
-		}
-
-		paginator.log(PUtilsConfig.LogLevel.LEVEL_3, "Pagination Utils deactivated successfully");
+		paginator.deactivate();
 		paginator = null;
 	}
 
@@ -105,7 +96,7 @@ public abstract class Pages {
 	 * @return The activation state of this library.
 	 */
 	public static boolean isActivated() {
-		return paginator != null && paginator.getHandler() != null;
+		return paginator != null && paginator.isActivated();
 	}
 
 	/**
@@ -117,6 +108,18 @@ public abstract class Pages {
 		return paginator;
 	}
 
+	/**
+	 * Retrieves the {@link Emoji} assigned to the supplied {@link Action} by the current {@link Paginator}, or its
+	 * default one if the library wasn't activated.
+	 *
+	 * @param action The {@link Action} to be searched for.
+	 * @return The {@link Emoji} representing this {@link Action}.
+	 */
+	public static Emoji getEmoji(@NotNull Action action) {
+		Paginator paginator = Pages.paginator;
+		return paginator != null ? paginator.getEmoji(action) : action.getEmoji();
+	}
+
 	/**
 	 * Retrieves the current {@link Paginator}'s {@link EventHandler} instance.
 	 *
@@ -562,31 +565,66 @@ public abstract class Pages {
 	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
 	 *                                         due to lack of bot permission.
 	 * @throws InvalidStateException           Thrown if the library wasn't activated or the page list is empty.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
 	 */
 	public static ActionReference paginate(@NotNull Message msg, @NotNull PaginateHelper helper) throws ErrorResponseException, InsufficientPermissionException {
-		if (!isActivated() || helper.getContent().isEmpty()) throw new InvalidStateException();
+		if (!isActivated()) throw new InvalidStateException();
+		return paginate(paginator, msg, helper);
+	}
+
+	/**
+	 * Same as {@link #paginate(Message, PaginateHelper)}, but handled by the supplied {@link Paginator} engine instead of
+	 * the one set through {@link #activate(Paginator)}.
+	 * <br>
+	 * Adds navigation buttons to the specified {@link Message}/{@link MessageEmbed}
+	 * which will navigate through a given {@link List} of pages. This version uses a helper class
+	 * to aid customization and allow usage of configurations.
+	 *
+	 * @param paginator The {@link Paginator} engine handling the event.
+	 * @param msg       The {@link Message} sent which will be paginated.
+	 * @param helper    A {@link PaginateHelper} holding desired pagination settings.
+	 * @return An {@link ActionReference} pointing to this action. This is useful if you need to track whether an event
+	 * is still being processed or was already removed (i.e., garbage collected).
+	 * @throws ErrorResponseException          Thrown if the {@link Message} no longer exists
+	 *                                         or cannot be accessed when triggering a
+	 *                                         {@link GenericMessageReactionEvent}.
+	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
+	 *                                         due to lack of bot permission.
+	 * @throws InvalidStateException           Thrown if the engine wasn't activated or the page list is empty.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
+	 */
+	public static ActionReference paginate(@NotNull Paginator paginator, @NotNull Message msg, @NotNull PaginateHelper helper) throws ErrorResponseException, InsufficientPermissionException {
+		if (!paginator.isActivated() || helper.getContent().isEmpty()) throw new InvalidStateException();
+		paginator.getEvtHandler().admit(msg, helper);
+		helper.setPaginator(paginator);
 		boolean useBtns = helper.isUsingButtons() && msg.getAuthor().getId().equals(msg.getJDA().getSelfUser().getId());
 		List<Page> pgs = Collections.unmodifiableList(helper.getContent());
 
 		if (useBtns && helper.shouldUpdate(msg)) {
 			helper.apply(msg.editMessageComponents()).submit();
 		} else if (!useBtns) {
-			clearButtons(msg);
-			clearReactions(msg);
-			addReactions(msg, helper.getSkipAmount() > 1, helper.isFastForward());
+			addReactions(paginator, msg, helper.getSkipAmount() > 1, helper.isFastForward());
+		}
+
+		if (useBtns && helper.isSearchable()) {
+			helper.getIndex().prepare();
 		}
 
-		String evt = getHandler().getEventId(msg);
-		return getHandler().addEvent(evt, new EventData<>(helper, new ThrowingBiConsumer<>() {
+		String evt = paginator.getEvtHandler().getEventId(msg);
+		int shard = EventHandler.getShardId(msg.getJDA());
+		MenuAction action = new MenuAction() {
 			private final int maxP = pgs.size() - 1;
 			private int p = 0;
+			private String lastQuery;
 			private ScheduledFuture<?> timeout;
 			private final Consumer<Void> success = s -> {
 				if (timeout != null) {
 					timeout.cancel(true);
 				}
 
-				getHandler().removeEvent(evt);
+				paginator.getEvtHandler().removeEvent(evt);
 				if (paginator.isDeleteOnCancel()) msg.delete().submit();
 			};
 
@@ -595,7 +633,7 @@ public abstract class Pages {
 
 			{
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 			}
 
@@ -607,13 +645,15 @@ public abstract class Pages {
 				Action emt = NONE;
 				if (wrapper.getContent() instanceof MessageReaction) {
 					EmojiUnion reaction = ((MessageReaction) wrapper.getContent()).getEmoji();
-					emt = toEmote(reaction);
+					emt = toEmote(paginator, reaction);
 				} else if (wrapper.getContent() instanceof Button) {
 					Button btn = (Button) wrapper.getContent();
 
 					if (btn.getCustomId() != null && Action.isNative(btn)) {
 						emt = Action.valueOf(ButtonId.ID_PATTERN.split(btn.getCustomId())[0]);
 					}
+				} else if (wrapper.getContent() instanceof ModalMapping) {
+					emt = toModalAction((ModalMapping) wrapper.getContent());
 				}
 
 				Page pg;
@@ -655,6 +695,42 @@ public abstract class Pages {
 							update = true;
 						}
 						break;
+					case GOTO_PAGE: {
+						int target = toPageIndex(wrapper.getContent());
+						if (target >= 0 && target <= maxP && target != p) {
+							p = target;
+							update = true;
+						}
+						break;
+					}
+					case SEARCH: {
+						if (!helper.isSearchable()) break;
+
+						PageIndex index = helper.getIndex();
+						if (!index.isReady()) {
+							index.prepare().whenComplete((v, t) -> {
+								try {
+									accept(u, wrapper);
+								} catch (RuntimeException e) {
+									paginator.log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred when searching event with ID " + evt, e);
+								}
+							});
+
+							return;
+						}
+
+						String query = ((ModalMapping) wrapper.getContent()).getAsString().trim();
+						int target = index.next(query, query.equalsIgnoreCase(lastQuery) ? p : -1);
+						lastQuery = query;
+
+						if (target < 0 && wrapper.getHook() != null) {
+							wrapper.getHook().sendMessage("No pages match \"" + query + "\".").setEphemeral(true).submit();
+						} else if (target >= 0 && target <= maxP && target != p) {
+							p = target;
+							update = true;
+						}
+						break;
+					}
 					case CANCEL:
 						if (msg.isEphemeral() && wrapper.getHook() != null) {
 							finalizeEvent(wrapper.getHook(), success);
@@ -682,14 +758,21 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 
 				if (wrapper.isFromGuild() && wrapper.getSource() instanceof MessageReactionAddEvent && paginator.isRemoveOnReact()) {
-					subGet(((MessageReaction) wrapper.getContent()).removeReaction(u));
+					paginator.getReactionRemover().remove((MessageReaction) wrapper.getContent(), u);
 				}
 			}
-		}));
+
+			@Override
+			void cancel() {
+				finalizeEvent(msg, success);
+			}
+		};
+
+		return paginator.getEvtHandler().addEvent(evt, new EventData<>(msg, helper, action, action::cancel));
 	}
 
 	/**
@@ -826,9 +909,42 @@ public abstract class Pages {
 	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
 	 *                                         due to lack of bot permission.
 	 * @throws InvalidStateException           Thrown if the library wasn't activated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
 	 */
 	public static ActionReference categorize(@NotNull Message msg, @NotNull CategorizeHelper helper) throws ErrorResponseException, InsufficientPermissionException {
 		if (!isActivated()) throw new InvalidStateException();
+		return categorize(paginator, msg, helper);
+	}
+
+	/**
+	 * Same as {@link #categorize(Message, CategorizeHelper)}, but handled by the supplied {@link Paginator} engine instead of
+	 * the one set through {@link #activate(Paginator)}.
+	 * <br>
+	 * Adds menu-like buttons to the specified {@link Message}/{@link MessageEmbed}
+	 * which will browse through a given {@link Map} of pages. You may only specify
+	 * one {@link Page} per button, adding another button with an existing Unicode
+	 * will overwrite the current button's {@link Page}. This version uses a helper class
+	 * to aid customization and allow usage of configurations.
+	 *
+	 * @param paginator The {@link Paginator} engine handling the event.
+	 * @param msg       The {@link Message} sent which will be categorized.
+	 * @param helper    A {@link CategorizeHelper} holding desired categorization settings.
+	 * @return an {@link ActionReference} pointing to the newly created event, can be used for checking when it gets
+	 * disposed of.
+	 * @throws ErrorResponseException          Thrown if the {@link Message} no longer exists
+	 *                                         or cannot be accessed when triggering a
+	 *                                         {@link GenericMessageReactionEvent}.
+	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
+	 *                                         due to lack of bot permission.
+	 * @throws InvalidStateException           Thrown if the engine wasn't activated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
+	 */
+	public static ActionReference categorize(@NotNull Paginator paginator, @NotNull Message msg, @NotNull CategorizeHelper helper) throws ErrorResponseException, InsufficientPermissionException {
+		if (!paginator.isActivated()) throw new InvalidStateException();
+		paginator.getEvtHandler().admit(msg, helper);
+		helper.setPaginator(paginator);
 		boolean useBtns = helper.isUsingButtons() && msg.getAuthor().getId().equals(msg.getJDA().getSelfUser().getId());
 
 		Map<ButtonId<?>, Page> cats = Collections.unmodifiableMap(helper.getContent());
@@ -837,19 +953,21 @@ public abstract class Pages {
 			helper.apply(msg.editMessageComponents()).submit();
 		} else if (!useBtns) {
 			clearButtons(msg);
-			clearReactions(msg);
 
+			List<Emoji> emojis = new ArrayList<>();
 			for (ButtonId<?> k : cats.keySet()) {
 				if (k instanceof EmojiId) {
-					msg.addReaction(((EmojiId) k).getContent()).submit();
+					emojis.add(((EmojiId) k).getContent());
 				}
 			}
 
-			msg.addReaction(paginator.getEmoji(CANCEL)).submit();
+			emojis.add(paginator.getEmoji(CANCEL));
+			reconcileReactions(msg, emojis);
 		}
 
-		String evt = getHandler().getEventId(msg);
-		return getHandler().addEvent(evt, new EventData<>(helper, new ThrowingBiConsumer<>() {
+		String evt = paginator.getEvtHandler().getEventId(msg);
+		int shard = EventHandler.getShardId(msg.getJDA());
+		MenuAction action = new MenuAction() {
 			private ButtonId<?> currCat = null;
 			private ScheduledFuture<?> timeout;
 			private final Consumer<Void> success = s -> {
@@ -857,13 +975,13 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 
-				getHandler().removeEvent(evt);
+				paginator.getEvtHandler().removeEvent(evt);
 				if (paginator.isDeleteOnCancel()) msg.delete().submit();
 			};
 
 			{
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 			}
 
@@ -877,7 +995,7 @@ public abstract class Pages {
 				if (wrapper.getContent() instanceof MessageReaction) {
 					EmojiUnion reaction = ((MessageReaction) wrapper.getContent()).getEmoji();
 					id = new EmojiId(toEmoji(reaction));
-					emt = toEmote(reaction);
+					emt = toEmote(paginator, reaction);
 				} else if (wrapper.getContent() instanceof Button) {
 					Button btn = (Button) wrapper.getContent();
 
@@ -924,14 +1042,21 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 
 				if (wrapper.isFromGuild() && wrapper.getSource() instanceof MessageReactionAddEvent && paginator.isRemoveOnReact()) {
-					subGet(((MessageReaction) wrapper.getContent()).removeReaction(u));
+					paginator.getReactionRemover().remove((MessageReaction) wrapper.getContent(), u);
 				}
 			}
-		}));
+
+			@Override
+			void cancel() {
+				finalizeEvent(msg, success);
+			}
+		};
+
+		return paginator.getEvtHandler().addEvent(evt, new EventData<>(msg, helper, action, action::cancel));
 	}
 
 	/**
@@ -1145,9 +1270,42 @@ public abstract class Pages {
 	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
 	 *                                         due to lack of bot permission.
 	 * @throws InvalidStateException           Thrown if the library wasn't activated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
 	 */
 	public static ActionReference buttonize(@NotNull Message msg, @NotNull ButtonizeHelper helper) throws ErrorResponseException, InsufficientPermissionException {
 		if (!isActivated()) throw new InvalidStateException();
+		return buttonize(paginator, msg, helper);
+	}
+
+	/**
+	 * Same as {@link #buttonize(Message, ButtonizeHelper)}, but handled by the supplied {@link Paginator} engine instead of
+	 * the one set through {@link #activate(Paginator)}.
+	 * <br>
+	 * Adds buttons to the specified {@link Message}/{@link MessageEmbed}, with each
+	 * executing a specific task on click. You may only specify one {@link Runnable}
+	 * per button, adding another button with an existing Unicode will overwrite the
+	 * current button's {@link Runnable}. This version uses a helper class
+	 * to aid customization and allow usage of configurations.
+	 *
+	 * @param paginator The {@link Paginator} engine handling the event.
+	 * @param msg       The {@link Message} sent which will be buttoned.
+	 * @param helper    A {@link ButtonizeHelper} holding desired buttonization settings.
+	 * @return an {@link ActionReference} pointing to the newly created event, can be used for checking when it gets
+	 * disposed of.
+	 * @throws ErrorResponseException          Thrown if the {@link Message} no longer exists
+	 *                                         or cannot be accessed when triggering a
+	 *                                         {@link GenericMessageReactionEvent}.
+	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
+	 *                                         due to lack of bot permission.
+	 * @throws InvalidStateException           Thrown if the engine wasn't activated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
+	 */
+	public static ActionReference buttonize(@NotNull Paginator paginator, @NotNull Message msg, @NotNull ButtonizeHelper helper) throws ErrorResponseException, InsufficientPermissionException {
+		if (!paginator.isActivated()) throw new InvalidStateException();
+		paginator.getEvtHandler().admit(msg, helper);
+		helper.setPaginator(paginator);
 		boolean useBtns = helper.isUsingButtons() && msg.getAuthor().getId().equals(msg.getJDA().getSelfUser().getId());
 
 		Map<ButtonId<?>, ThrowingConsumer<ButtonWrapper>> btns = Collections.unmodifiableMap(helper.getContent());
@@ -1156,36 +1314,39 @@ public abstract class Pages {
 			helper.apply(msg.editMessageComponents()).submit();
 		} else if (!useBtns) {
 			clearButtons(msg);
-			clearReactions(msg);
 
+			List<Emoji> emojis = new ArrayList<>();
 			for (ButtonId<?> k : btns.keySet()) {
 				if (k instanceof EmojiId) {
-					msg.addReaction(((EmojiId) k).getContent()).submit();
+					emojis.add(((EmojiId) k).getContent());
 				}
 			}
 
-			boolean hasCancel = btns.keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), Pages.getPaginator().getEmoji(CANCEL)));
+			boolean hasCancel = btns.keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), paginator.getEmoji(CANCEL)));
 			if (!hasCancel && helper.isCancellable()) {
-				msg.addReaction(paginator.getEmoji(CANCEL)).submit();
+				emojis.add(paginator.getEmoji(CANCEL));
 			}
+
+			reconcileReactions(msg, emojis);
 		}
 
-		String evt = getHandler().getEventId(msg);
-		return getHandler().addEvent(evt, new EventData<>(helper, new ThrowingBiConsumer<>() {
+		String evt = paginator.getEvtHandler().getEventId(msg);
+		int shard = EventHandler.getShardId(msg.getJDA());
+		MenuAction action = new MenuAction() {
 			private ScheduledFuture<?> timeout;
 			private final Consumer<Void> success = s -> {
 				if (timeout != null) {
 					timeout.cancel(true);
 				}
 
-				getHandler().removeEvent(evt);
+				paginator.getEvtHandler().removeEvent(evt);
 				if (helper.getOnFinalization() != null) helper.getOnFinalization().accept(msg);
 				if (paginator.isDeleteOnCancel()) msg.delete().submit();
 			};
 
 			{
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 			}
 
@@ -1199,7 +1360,7 @@ public abstract class Pages {
 				if (wrapper.getContent() instanceof MessageReaction) {
 					EmojiUnion reaction = ((MessageReaction) wrapper.getContent()).getEmoji();
 					id = new EmojiId(toEmoji(reaction));
-					emt = toEmote(reaction);
+					emt = toEmote(paginator, reaction);
 				} else if (wrapper.getContent() instanceof Button) {
 					Button btn = (Button) wrapper.getContent();
 
@@ -1220,7 +1381,7 @@ public abstract class Pages {
 					}
 				}
 
-				boolean hasCancel = btns.keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), Pages.getPaginator().getEmoji(CANCEL)));
+				boolean hasCancel = btns.keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), paginator.getEmoji(CANCEL)));
 				if ((!hasCancel && helper.isCancellable()) && emt == CANCEL) {
 					if (m.isEphemeral() && wrapper.getHook() != null) {
 						finalizeEvent(wrapper.getHook(), success);
@@ -1250,14 +1411,21 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 
 				if (wrapper.isFromGuild() && wrapper.getSource() instanceof MessageReactionAddEvent && paginator.isRemoveOnReact()) {
-					subGet(((MessageReaction) wrapper.getContent()).removeReaction(u));
+					paginator.getReactionRemover().remove((MessageReaction) wrapper.getContent(), u);
 				}
 			}
-		}));
+
+			@Override
+			void cancel() {
+				finalizeEvent(msg, success);
+			}
+		};
+
+		return paginator.getEvtHandler().addEvent(evt, new EventData<>(msg, helper, action, action::cancel));
 	}
 
 	/**
@@ -1495,22 +1663,53 @@ public abstract class Pages {
 	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
 	 *                                         due to lack of bot permission.
 	 * @throws InvalidStateException           Thrown if the library wasn't activated or the first page cannot be generated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
 	 */
 	public static ActionReference lazyPaginate(@NotNull Message msg, @NotNull LazyPaginateHelper helper) throws ErrorResponseException, InsufficientPermissionException {
 		if (!isActivated()) throw new InvalidStateException();
+		return lazyPaginate(paginator, msg, helper);
+	}
+
+	/**
+	 * Same as {@link #lazyPaginate(Message, LazyPaginateHelper)}, but handled by the supplied {@link Paginator} engine instead of
+	 * the one set through {@link #activate(Paginator)}.
+	 * <br>
+	 * Adds navigation buttons to the specified {@link Message}/{@link MessageEmbed}
+	 * which will lazily load content by using supplied {@link ThrowingFunction}. For this reason,
+	 * this pagination type cannot have skip nor fast-forward buttons given the unknown page limit.
+	 * This version uses a helper class to aid customization and allow usage of configurations.
+	 *
+	 * @param paginator The {@link Paginator} engine handling the event.
+	 * @param msg       The {@link Message} sent which will be paginated.
+	 * @param helper    A {@link LazyPaginateHelper} holding desired lazy pagination settings.
+	 * @return an {@link ActionReference} pointing to the newly created event, can be used for checking when it gets
+	 * disposed of.
+	 * @throws ErrorResponseException          Thrown if the {@link Message} no longer exists
+	 *                                         or cannot be accessed when triggering a
+	 *                                         {@link GenericMessageReactionEvent}.
+	 * @throws InsufficientPermissionException Thrown if this library cannot remove reactions
+	 *                                         due to lack of bot permission.
+	 * @throws InvalidStateException           Thrown if the engine wasn't activated or the first page cannot be generated.
+	 * @throws QuotaExceededException          Thrown if a guild or user quota was reached and no event could be replaced,
+	 *                                         see {@link PaginatorBuilder#setQuotaPolicy}.
+	 */
+	public static ActionReference lazyPaginate(@NotNull Paginator paginator, @NotNull Message msg, @NotNull LazyPaginateHelper helper) throws ErrorResponseException, InsufficientPermissionException {
+		if (!paginator.isActivated()) throw new InvalidStateException();
+		paginator.getEvtHandler().admit(msg, helper);
+		helper.setPaginator(paginator);
 		boolean useBtns = helper.isUsingButtons() && msg.getAuthor().getId().equals(msg.getJDA().getSelfUser().getId());
 		boolean cache = helper.getContent() != null;
 
 		if (useBtns && helper.shouldUpdate(msg)) {
 			helper.apply(msg.editMessageComponents()).submit();
 		} else if (!useBtns) {
-			clearButtons(msg);
-			clearReactions(msg);
-			addReactions(msg, false, false);
+			addReactions(paginator, msg, false, false);
 		}
 
-		String evt = getHandler().getEventId(msg);
-		return getHandler().addEvent(evt, new EventData<>(helper, new ThrowingBiConsumer<>() {
+		String evt = paginator.getEvtHandler().getEventId(msg);
+		int shard = EventHandler.getShardId(msg.getJDA());
+		MenuAction action = new MenuAction() {
 			private int p = 0;
 			private ScheduledFuture<?> timeout;
 			private final Consumer<Void> success = s -> {
@@ -1518,7 +1717,8 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 
-				getHandler().removeEvent(evt);
+				paginator.getEvtHandler().removeEvent(evt);
+				helper.close();
 				if (paginator.isDeleteOnCancel()) msg.delete().submit();
 			};
 
@@ -1526,7 +1726,7 @@ public abstract class Pages {
 
 			{
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 			}
 
@@ -1538,13 +1738,15 @@ public abstract class Pages {
 				Action emt = NONE;
 				if (wrapper.getContent() instanceof MessageReaction) {
 					EmojiUnion reaction = ((MessageReaction) wrapper.getContent()).getEmoji();
-					emt = toEmote(reaction);
+					emt = toEmote(paginator, reaction);
 				} else if (wrapper.getContent() instanceof Button) {
 					Button btn = (Button) wrapper.getContent();
 
 					if (btn.getCustomId() != null && Action.isNative(btn)) {
 						emt = Action.valueOf(ButtonId.ID_PATTERN.split(btn.getCustomId())[0]);
 					}
+				} else if (wrapper.getContent() instanceof ModalMapping) {
+					emt = toModalAction((ModalMapping) wrapper.getContent());
 				}
 
 				Page pg = null;
@@ -1555,34 +1757,34 @@ public abstract class Pages {
 						if (p > 0) {
 							p--;
 							update = true;
-							pg = cache ? helper.getContent().get(p) : helper.getPageLoader().apply(p);
+							pg = fetch(p);
+							if (pg == null) {
+								p++;
+								update = false;
+							}
 						}
 						break;
 					case NEXT:
 						p++;
 						update = true;
 
-						if (cache && helper.getContent().size() > p) {
-							pg = helper.getContent().get(p);
-							if (pg == null) {
-								pg = helper.getPageLoader().apply(p);
-								if (pg == null) {
-									p--;
-									end = true;
-								}
-							}
-						} else {
-							pg = helper.getPageLoader().apply(p);
-							if (pg == null) {
-								p--;
-								end = true;
-							}
+						pg = fetch(p);
+						if (pg == null) {
+							p--;
+							end = true;
 						}
+						break;
+					case GOTO_PAGE: {
+						int target = toPageIndex(wrapper.getContent());
+						if (target < 0 || target == p) break;
 
-						if (cache && pg != null) {
-							helper.getContent().add(pg);
+						pg = fetch(target);
+						if (pg != null) {
+							p = target;
+							update = true;
 						}
 						break;
+					}
 					case CANCEL:
 						if (msg.isEphemeral() && wrapper.getHook() != null) {
 							finalizeEvent(wrapper.getHook(), success);
@@ -1594,7 +1796,7 @@ public abstract class Pages {
 				}
 
 				if (update) {
-					boolean reachedEnd = end;
+					boolean reachedEnd = end || helper.isLastPage(p);
 					modifyButtons(msg, pg, Map.of(
 							PREVIOUS.name(), LOWER_BOUNDARY_CHECK,
 							SKIP_BACKWARD.name(), LOWER_BOUNDARY_CHECK,
@@ -1607,14 +1809,30 @@ public abstract class Pages {
 					timeout.cancel(true);
 				}
 				if (helper.getTimeout() > 0) {
-					timeout = getScheduler().schedule(evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
+					timeout = paginator.getScheduler().schedule(shard, evt, () -> finalizeEvent(msg, success), helper.getTimeout(), TimeUnit.MILLISECONDS);
 				}
 
 				if (wrapper.isFromGuild() && wrapper.getSource() instanceof MessageReactionAddEvent && paginator.isRemoveOnReact()) {
-					subGet(((MessageReaction) wrapper.getContent()).removeReaction(u));
+					paginator.getReactionRemover().remove((MessageReaction) wrapper.getContent(), u);
+				}
+			}
+
+			private Page fetch(int index) {
+				Page pg = null;
+				if (cache && helper.getContent().size() > index) {
+					pg = helper.getContent().get(index);
 				}
+
+				return pg != null ? pg : helper.load(index);
 			}
-		}));
+
+			@Override
+			void cancel() {
+				finalizeEvent(msg, success);
+			}
+		};
+
+		return paginator.getEvtHandler().addEvent(evt, new EventData<>(msg, helper, action, action::cancel));
 	}
 
 	/**
@@ -1642,7 +1860,9 @@ public abstract class Pages {
 		try {
 			return future.submit().get(5, TimeUnit.SECONDS);
 		} catch (InterruptedException | ExecutionException | TimeoutException e) {
-			paginator.log(PUtilsConfig.LogLevel.LEVEL_4, "Exception during future execution:", e);
+			if (paginator != null) {
+				paginator.log(PUtilsConfig.LogLevel.LEVEL_4, "Exception during future execution:", e);
+			}
 			return null;
 		}
 	}
@@ -1659,13 +1879,40 @@ public abstract class Pages {
 		try {
 			return future.submit().get();
 		} catch (InterruptedException | ExecutionException e) {
-			paginator.log(PUtilsConfig.LogLevel.LEVEL_4, "Exception during future execution:", e);
+			if (paginator != null) {
+				paginator.log(PUtilsConfig.LogLevel.LEVEL_4, "Exception during future execution:", e);
+			}
 			return or;
 		}
 	}
 
-	private static Action toEmote(EmojiUnion reaction) {
-		return Action.getByEmoji(toEmoji(reaction));
+	/**
+	 * Action of a menu created by this class, which also finalizes its own event when cancelled externally, running the
+	 * same cleanup as when cancelled by its user.
+	 */
+	private abstract static class MenuAction implements ThrowingBiConsumer<User, PaginationEventWrapper> {
+		abstract void cancel();
+	}
+
+	private static Action toModalAction(ModalMapping value) {
+		if (value.getCustomId().equals(GOTO_PAGE.name())) return GOTO_PAGE;
+		else if (value.getCustomId().equals(SEARCH.name())) return SEARCH;
+
+		return NONE;
+	}
+
+	private static int toPageIndex(Object content) {
+		if (!(content instanceof ModalMapping)) return -1;
+
+		try {
+			return Integer.parseInt(((ModalMapping) content).getAsString().trim()) - 1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static Action toEmote(Paginator paginator, EmojiUnion reaction) {
+		return Action.getByEmoji(paginator, toEmoji(reaction));
 	}
 
 	private static Emoji toEmoji(EmojiUnion reaction) {
@@ -1704,7 +1951,9 @@ public abstract class Pages {
 		try {
 			subGet(msg.editMessageComponents());
 		} catch (InsufficientPermissionException | IllegalStateException e) {
-			paginator.log(PUtilsConfig.LogLevel.LEVEL_2, "Not enough permissions to clear message reactions:", e);
+			if (paginator != null) {
+				paginator.log(PUtilsConfig.LogLevel.LEVEL_2, "Not enough permissions to clear message reactions:", e);
+			}
 		}
 	}
 
@@ -1715,14 +1964,19 @@ public abstract class Pages {
 	 * @param callback Action to be executed after finalizing.
 	 */
 	public static void finalizeEvent(Message msg, Consumer<Void> callback) {
-		if (!msg.isEphemeral()) {
-			msg = reloadMessage(msg);
+		Trace trace = Tracer.begin(Tracer.Type.FINALIZE);
+		try {
+			if (!msg.isEphemeral()) {
+				msg = reloadMessage(msg);
 
-			clearButtons(msg);
-			clearReactions(msg);
-		}
+				clearButtons(msg);
+				clearReactions(msg);
+			}
 
-		callback.accept(null);
+			callback.accept(null);
+		} finally {
+			trace.close();
+		}
 	}
 
 	/**
@@ -1732,8 +1986,13 @@ public abstract class Pages {
 	 * @param callback Action to be executed after finalizing.
 	 */
 	public static void finalizeEvent(InteractionHook hook, Consumer<Void> callback) {
-		hook.deleteOriginal().queue();
-		callback.accept(null);
+		Trace trace = Tracer.begin(Tracer.Type.FINALIZE);
+		try {
+			hook.deleteOriginal().queue();
+			callback.accept(null);
+		} finally {
+			trace.close();
+		}
 	}
 
 	/**
@@ -1744,15 +2003,17 @@ public abstract class Pages {
 	 * @param changes {@link Map} containing desired changes, indexed by {@link Button} ID.
 	 */
 	public static void modifyButtons(Message msg, @Nullable Page p, Map<String, Function<Button, Button>> changes) {
+		Trace trace = Tracer.begin(Tracer.Type.MODIFY_BUTTONS);
 		MessageEditAction act = msg.editMessageComponents();
 
 		if (p != null) {
-			if (p.getContent() instanceof String) {
-				act = msg.editMessage((String) p.getContent());
-			} else if (p.getContent() instanceof MessageEmbed) {
-				act = msg.editMessageEmbeds((MessageEmbed) p.getContent());
-			} else if (p.getContent() instanceof EmbedCluster) {
-				act = msg.editMessageEmbeds(((EmbedCluster) p.getContent()).getEmbeds());
+			Object content = p.getContent();
+			if (content instanceof String) {
+				act = msg.editMessage((String) content);
+			} else if (content instanceof MessageEmbed) {
+				act = msg.editMessageEmbeds((MessageEmbed) content);
+			} else if (content instanceof EmbedCluster) {
+				act = msg.editMessageEmbeds(((EmbedCluster) content).getEmbeds());
 			}
 		}
 
@@ -1767,31 +2028,91 @@ public abstract class Pages {
 			}
 
 			return c;
-		})).submit();
+		})).submit().whenComplete((m, t) -> trace.close());
 	}
 
 	/**
-	 * Utility method to add navigation buttons.
+	 * Utility method to add navigation buttons. Reactions already present on the message in the expected order are
+	 * kept, and only the missing ones are added.
 	 *
 	 * @param msg      The {@link Message} to have reactions removed from.
 	 * @param withSkip Whether to include {@link Action#SKIP_BACKWARD} and {@link Action#SKIP_FORWARD} buttons.
 	 * @param withGoto Whether to include {@link Action#GOTO_FIRST} and {@link Action#GOTO_LAST} buttons.
 	 */
 	public static void addReactions(Message msg, boolean withSkip, boolean withGoto) {
+		addReactions(paginator, msg, withSkip, withGoto);
+	}
+
+	private static void addReactions(Paginator paginator, Message msg, boolean withSkip, boolean withGoto) {
 		clearButtons(msg);
-		List<RestAction<Void>> acts = new ArrayList<>();
+		List<Emoji> emojis = new ArrayList<>();
 
-		if (withGoto) acts.add(msg.addReaction(paginator.getEmoji(GOTO_FIRST)));
-		if (withSkip) acts.add(msg.addReaction(paginator.getEmoji(SKIP_BACKWARD)));
+		if (withGoto) emojis.add(paginator.getEmoji(GOTO_FIRST));
+		if (withSkip) emojis.add(paginator.getEmoji(SKIP_BACKWARD));
 
-		acts.add(msg.addReaction(paginator.getEmoji(PREVIOUS)));
-		acts.add(msg.addReaction(paginator.getEmoji(CANCEL)));
-		acts.add(msg.addReaction(paginator.getEmoji(NEXT)));
+		emojis.add(paginator.getEmoji(PREVIOUS));
+		emojis.add(paginator.getEmoji(CANCEL));
+		emojis.add(paginator.getEmoji(NEXT));
 
-		if (withSkip) acts.add(msg.addReaction(paginator.getEmoji(SKIP_FORWARD)));
-		if (withGoto) acts.add(msg.addReaction(paginator.getEmoji(GOTO_LAST)));
+		if (withSkip) emojis.add(paginator.getEmoji(SKIP_FORWARD));
+		if (withGoto) emojis.add(paginator.getEmoji(GOTO_LAST));
 
-		RestAction.allOf(acts).submit();
+		reconcileReactions(msg, emojis);
+	}
+
+	/**
+	 * Brings the reactions of a message in line with the supplied emojis, in order. Reactions added by the bot which
+	 * already match the start of the list are kept, unrelated ones are removed and only the remaining emojis are
+	 * added, falling back to clearing and re-adding every reaction if the existing ones are out of order.
+	 *
+	 * @param msg    The {@link Message} to have reactions updated.
+	 * @param emojis The desired emojis, in order.
+	 */
+	private static void reconcileReactions(Message msg, List<Emoji> emojis) {
+		List<String> wanted = new ArrayList<>();
+		for (Emoji e : emojis) {
+			wanted.add(e.getFormatted());
+		}
+
+		int kept = 0;
+		List<MessageReaction> extra = new ArrayList<>();
+		for (MessageReaction r : msg.getReactions()) {
+			String emoji = r.getEmoji().getFormatted();
+			if (kept < wanted.size() && r.isSelf() && wanted.get(kept).equals(emoji)) {
+				kept++;
+			} else if (wanted.contains(emoji)) {
+				kept = -1;
+				break;
+			} else {
+				extra.add(r);
+			}
+		}
+
+		if (kept <= 0) {
+			kept = 0;
+			clearReactions(msg);
+		} else {
+			for (MessageReaction r : extra) {
+				try {
+					if (msg.isFromGuild()) {
+						r.clearReactions().submit();
+					} else {
+						r.removeReaction().submit();
+					}
+				} catch (InsufficientPermissionException e) {
+					r.removeReaction().submit();
+				}
+			}
+		}
+
+		List<RestAction<Void>> acts = new ArrayList<>();
+		for (Emoji e : emojis.subList(kept, emojis.size())) {
+			acts.add(msg.addReaction(e));
+		}
+
+		if (!acts.isEmpty()) {
+			RestAction.allOf(acts).submit();
+		}
 	}
 
 	/**
@@ -1,5 +1,6 @@
 package com.github.ygimenez.model;
 
+import com.github.ygimenez.listener.EventHandler;
 import com.github.ygimenez.method.Pages;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,6 +15,7 @@ import java.lang.ref.WeakReference;
  * @see java.lang.ref.WeakReference
  */
 public class ActionReference extends WeakReference<String> {
+	private final EventHandler handler;
 
 	/**
 	 * Creates a new {@link ActionReference} for tracking a specific event key. Not for external usage.
@@ -21,7 +23,19 @@ public class ActionReference extends WeakReference<String> {
 	 * @param referent The key referring to an existing library event.
 	 */
 	public ActionReference(@NotNull String referent) {
+		this(referent, null);
+	}
+
+	/**
+	 * Creates a new {@link ActionReference} for tracking a specific event key within the supplied
+	 * {@link EventHandler}. Not for external usage.
+	 *
+	 * @param referent The key referring to an existing library event.
+	 * @param handler  The {@link EventHandler} holding the event, or null for the library-wide one.
+	 */
+	public ActionReference(@NotNull String referent, @Nullable EventHandler handler) {
 		super(referent);
+		this.handler = handler;
 	}
 
 	/**
@@ -32,7 +46,8 @@ public class ActionReference extends WeakReference<String> {
 	@Nullable
 	@Override
 	public String get() {
-		if (!Pages.getHandler().checkEvent(super.get())) {
+		EventHandler handler = this.handler != null ? this.handler : Pages.getHandler();
+		if (!handler.checkEvent(super.get())) {
 			enqueue();
 		}
 
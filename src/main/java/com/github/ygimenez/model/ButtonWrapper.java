@@ -51,13 +51,17 @@ public class ButtonWrapper {
 	}
 
 	/**
-	 * Retrieves the {@link Member} who pressed the button.
+	 * Retrieves the {@link Member} who pressed the button, from cache if available.
 	 *
 	 * @return The {@link Member} who pressed the button.
 	 * @throws IllegalStateException If the event didn't happen in a {@link Guild}.
 	 */
 	public Member getMember() throws IllegalStateException {
-		return Pages.subGet(message.getGuild().retrieveMember(user));
+		Guild guild = message.getGuild();
+		Member member = guild.getMember(user);
+		if (member != null) return member;
+
+		return Pages.subGet(guild.retrieveMember(user));
 	}
 
 	/**
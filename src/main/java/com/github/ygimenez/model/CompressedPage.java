@@ -0,0 +1,150 @@
+package com.github.ygimenez.model;
+
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link InteractPage} keeping its text packed in a byte array instead of a {@link String}, for text-heavy
+ * paginations (such as logs or diffs) held for a long time. Text is stored as Latin-1 when possible (UTF-8
+ * otherwise), and deflated if that makes it smaller. It's only unpacked when {@link #getContent()} is called, such as
+ * when the page is being displayed.
+ */
+public class CompressedPage extends InteractPage {
+	private static final int MIN_DEFLATE = 128;
+	private static final byte LATIN_1 = 1;
+	private static final byte DEFLATED = 2;
+
+	private final byte[] data;
+	private final byte flags;
+	private final int size;
+	private final MessageEmbed template;
+
+	private CompressedPage(@NotNull Object content, @NotNull String text, @Nullable MessageEmbed template) {
+		super(content, false);
+		this.template = template;
+
+		boolean latin = true;
+		for (int i = 0; i < text.length() && latin; i++) {
+			latin = text.charAt(i) <= 0xFF;
+		}
+
+		byte[] raw = text.getBytes(latin ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+		byte flags = latin ? LATIN_1 : 0;
+		byte[] data = raw;
+		if (raw.length >= MIN_DEFLATE) {
+			byte[] packed = deflate(raw);
+			if (packed.length < raw.length) {
+				data = packed;
+				flags |= DEFLATED;
+			}
+		}
+
+		this.data = data;
+		this.flags = flags;
+		this.size = raw.length;
+	}
+
+	/**
+	 * Create a new {@link CompressedPage} for embed-less page.
+	 *
+	 * @param content The desired content
+	 * @return A new {@link CompressedPage} instance.
+	 * @throws com.github.ygimenez.exception.InvalidPageException If the content is longer than
+	 *                                                            {@link net.dv8tion.jda.api.entities.Message#MAX_CONTENT_LENGTH}.
+	 */
+	public static CompressedPage of(@NotNull String content) {
+		return new CompressedPage(content, content, null);
+	}
+
+	/**
+	 * Create a new {@link CompressedPage} for single-embed page, keeping only the embed's description packed. The
+	 * embed is rebuilt from the supplied template whenever the page is displayed.
+	 *
+	 * @param description The embed description.
+	 * @param template    The {@link MessageEmbed} used as base for the page, which may be shared between pages.
+	 * @return A new {@link CompressedPage} instance.
+	 * @throws com.github.ygimenez.exception.InvalidPageException If the resulting embed is longer than
+	 *                                                            {@link MessageEmbed#EMBED_MAX_LENGTH_BOT}.
+	 */
+	public static CompressedPage of(@NotNull String description, @NotNull MessageEmbed template) {
+		return new CompressedPage(build(template, description), description, template);
+	}
+
+	/**
+	 * Unpacks this page's content. A new instance is returned on each call, so callers should keep it for as long as
+	 * needed instead of calling this repeatedly.
+	 *
+	 * @return This {@link Page}'s content object.
+	 */
+	@Override
+	public Object getContent() {
+		String text = unpack();
+		return template == null ? text : build(template, text);
+	}
+
+	/**
+	 * Retrieves how many bytes the packed content takes.
+	 *
+	 * @return The size of the packed content.
+	 */
+	public int getPackedSize() {
+		return data.length;
+	}
+
+	@Override
+	public long getWeight() {
+		return 96 + data.length;
+	}
+
+	private String unpack() {
+		byte[] raw = data;
+		if ((flags & DEFLATED) != 0) {
+			Inflater inflater = new Inflater();
+			try {
+				inflater.setInput(data);
+				raw = new byte[size];
+				int read = 0;
+				while (read < size && !inflater.finished()) {
+					read += inflater.inflate(raw, read, size - read);
+				}
+			} catch (DataFormatException e) {
+				throw new IllegalStateException("Corrupted page content", e);
+			} finally {
+				inflater.end();
+			}
+		}
+
+		return new String(raw, (flags & LATIN_1) != 0 ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+	}
+
+	private static byte[] deflate(byte[] raw) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+			byte[] buf = new byte[512];
+			while (!deflater.finished()) {
+				int n = deflater.deflate(buf);
+				out.write(buf, 0, n);
+			}
+
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static MessageEmbed build(MessageEmbed template, String description) {
+		return new EmbedBuilder(template).setDescription(description).build();
+	}
+}
@@ -48,4 +48,17 @@ public class EmbedCluster {
     public List<MessageEmbed> getEmbeds() {
         return embeds;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmbedCluster)) return false;
+
+        return embeds.equals(((EmbedCluster) o).embeds);
+    }
+
+    @Override
+    public int hashCode() {
+        return embeds.hashCode();
+    }
 }
@@ -1,7 +1,15 @@
 package com.github.ygimenez.model;
 
+import com.github.ygimenez.listener.EventHandler;
 import com.github.ygimenez.model.helper.BaseHelper;
+import com.github.ygimenez.model.helper.ButtonizeHelper;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Represents an event associated with a helper of type {@link BaseHelper} and an action
@@ -14,6 +22,15 @@ import net.dv8tion.jda.api.entities.User;
 public class EventData<Type extends BaseHelper<Type, T>, T> {
 	private final BaseHelper<Type, T> helper;
 	private final ThrowingBiConsumer<User, PaginationEventWrapper> action;
+	private final long guildId;
+	private final long channelId;
+	private final long messageId;
+	private final int shardId;
+	private final long ownerId;
+	private final Runnable onCancel;
+	private final long createdAt = System.nanoTime();
+	private long weight = -1;
+	private int weighedSize = -1;
 
 	/**
 	 * Constructs a new {@code EventData} instance with the specified helper and action.
@@ -27,6 +44,50 @@ public class EventData<Type extends BaseHelper<Type, T>, T> {
 	public EventData(BaseHelper<Type, T> helper, ThrowingBiConsumer<User, PaginationEventWrapper> action) {
 		this.helper = helper;
 		this.action = action;
+		this.guildId = 0;
+		this.channelId = 0;
+		this.messageId = 0;
+		this.shardId = 0;
+		this.ownerId = helper.getOwnerId();
+		this.onCancel = null;
+	}
+
+	/**
+	 * Constructs a new {@code EventData} instance with the specified helper and action, bound to the supplied
+	 * {@link Message}. This allows the event to be dropped when its message, channel or guild becomes unavailable.
+	 *
+	 * @param message  The {@link Message} holding this event.
+	 * @param helper   The {@link BaseHelper} instance associated with this event.
+	 * @param action   A {@link ThrowingBiConsumer} representing the action to be performed.
+	 * @param onCancel Action used to finalize the event when it gets cancelled externally, may be null.
+	 */
+	public EventData(@NotNull Message message, BaseHelper<Type, T> helper, ThrowingBiConsumer<User, PaginationEventWrapper> action, @Nullable Runnable onCancel) {
+		this.helper = helper;
+		this.action = action;
+		this.guildId = message.isFromGuild() ? message.getGuildIdLong() : 0;
+		this.channelId = message.getChannel().getIdLong();
+		this.messageId = message.getIdLong();
+		this.shardId = guildId == 0 ? 0 : EventHandler.getShardId(message.getJDA());
+		this.onCancel = onCancel;
+		this.ownerId = getOwnerId(message, helper);
+	}
+
+	/**
+	 * Resolves the ID of the {@link User} who would own an event created on the supplied {@link Message}, see
+	 * {@link #getOwnerId()}.
+	 *
+	 * @param message The {@link Message} holding the event.
+	 * @param helper  The {@link BaseHelper} instance associated with the event.
+	 * @return The owner's ID, or 0 if unknown.
+	 */
+	public static long getOwnerId(@NotNull Message message, @NotNull BaseHelper<?, ?> helper) {
+		if (helper.getOwnerId() != 0) {
+			return helper.getOwnerId();
+		} else if (message.getInteractionMetadata() != null) {
+			return message.getInteractionMetadata().getUser().getIdLong();
+		}
+
+		return 0;
 	}
 
 	/**
@@ -49,4 +110,100 @@ public class EventData<Type extends BaseHelper<Type, T>, T> {
 	public ThrowingBiConsumer<User, PaginationEventWrapper> getAction() {
 		return action;
 	}
+
+	/**
+	 * Retrieves the ID of the guild this event belongs to.
+	 *
+	 * @return The guild ID, or 0 if the event happens in a private channel or wasn't bound to a {@link Message}.
+	 */
+	public long getGuildId() {
+		return guildId;
+	}
+
+	/**
+	 * Retrieves the ID of the shard this event belongs to.
+	 *
+	 * @return The shard ID, or 0 if not sharded or the event wasn't bound to a {@link Message}. Events in private
+	 * channels always belong to shard 0, since that's where Discord delivers their interactions and reactions.
+	 */
+	public int getShardId() {
+		return shardId;
+	}
+
+	/**
+	 * Retrieves the ID of the channel this event belongs to.
+	 *
+	 * @return The channel ID, or 0 if the event wasn't bound to a {@link Message}.
+	 */
+	public long getChannelId() {
+		return channelId;
+	}
+
+	/**
+	 * Retrieves the ID of the {@link User} owning this event, either set through
+	 * {@link BaseHelper#setOwner(User)} or taken from the interaction which created the {@link Message}.
+	 *
+	 * @return The owner's ID, or 0 if unknown.
+	 */
+	public long getOwnerId() {
+		return ownerId;
+	}
+
+	/**
+	 * Retrieves when this event was created, as given by {@link System#nanoTime()}. This is only meant to compare the
+	 * age of events.
+	 *
+	 * @return The event creation time, in nanoseconds.
+	 */
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * Retrieves the estimated weight of this event's helper (see {@link BaseHelper#getWeight()}). The weight is cached
+	 * and only recomputed when the amount of pages, categories or buttons held by the helper changes.
+	 *
+	 * @return The estimated weight of this event, in bytes.
+	 */
+	public synchronized long getWeight() {
+		Object content = helper.getContent();
+		int size;
+		if (content instanceof Collection) {
+			size = ((Collection<?>) content).size();
+		} else if (content instanceof Map) {
+			size = ((Map<?, ?>) content).size();
+		} else {
+			size = 0;
+		}
+
+		if (weight < 0 || size != weighedSize) {
+			weight = helper.getWeight();
+			weighedSize = size;
+		}
+
+		return weight;
+	}
+
+	/**
+	 * Finalizes this event as if it had been cancelled by its user, removing its buttons and the event itself, and
+	 * running any cleanup the event does on finalization (such as {@link ButtonizeHelper#getOnFinalization()}).
+	 *
+	 * @return Whether the event had a finalizer to run, which is never the case for events not bound to a
+	 * {@link Message}.
+	 */
+	public boolean cancel() {
+		if (onCancel == null) return false;
+
+		onCancel.run();
+		return true;
+	}
+
+	/**
+	 * Retrieves the ID of the message this event belongs to.
+	 *
+	 * @return The message ID, or 0 if the event wasn't bound to a {@link Message}.
+	 */
+	public long getMessageId() {
+		return messageId;
+	}
 }
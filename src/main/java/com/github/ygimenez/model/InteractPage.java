@@ -1,5 +1,6 @@
 package com.github.ygimenez.model;
 
+import com.github.ygimenez.exception.InvalidPageException;
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.type.Action;
 import net.dv8tion.jda.api.components.buttons.Button;
@@ -29,11 +30,24 @@ public class InteractPage extends Page {
 		super(content);
 	}
 
+	/**
+	 * Create a new {@link InteractPage}, optionally without keeping a reference to its content, see
+	 * {@link Page#Page(Object, boolean)}.
+	 * <b>THIS MUST NEVER BE CALLED.</b>
+	 *
+	 * @param content The desired content
+	 * @param retain  Whether to keep a reference to the content.
+	 */
+	protected InteractPage(@NotNull Object content, boolean retain) {
+		super(content, retain);
+	}
+
 	/**
 	 * Create a new {@link InteractPage} for embed-less page, with support for interaction buttons.
 	 *
 	 * @param content The desired content
 	 * @return A new {@link InteractPage} instance.
+	 * @throws InvalidPageException If the content is longer than {@link net.dv8tion.jda.api.entities.Message#MAX_CONTENT_LENGTH}.
 	 */
 	public static InteractPage of(@NotNull String content) {
 		return new InteractPage(content);
@@ -44,6 +58,7 @@ public class InteractPage extends Page {
 	 *
 	 * @param content The desired content
 	 * @return A new {@link InteractPage} instance.
+	 * @throws InvalidPageException If the embed is empty or longer than {@link MessageEmbed#EMBED_MAX_LENGTH_BOT}.
 	 */
 	public static InteractPage of(@NotNull MessageEmbed content) {
 		return new InteractPage(content);
@@ -54,6 +69,7 @@ public class InteractPage extends Page {
 	 *
 	 * @param content The desired content
 	 * @return A new {@link InteractPage} instance.
+	 * @throws InvalidPageException If the cluster isn't valid, see {@link Page#of(EmbedCluster)}.
 	 */
 	public static InteractPage of(@NotNull EmbedCluster content) {
 		return new InteractPage(content);
@@ -88,20 +104,34 @@ public class InteractPage extends Page {
 	}
 
 	/**
-	 * Creates a new {@link Button} from configured styles and captions.
+	 * Creates a new {@link Button} from configured styles and captions, using the emojis of the library-wide
+	 * {@link Paginator}.
 	 *
 	 * @param action The {@link Action} representing the {@link Button}, must never be null since it is also the ID.<br>
 	 *            If you supply {@link Action#NONE} a blank disabled button will be created.
 	 * @return The created {@link Button}.
 	 */
 	public Button makeButton(@NotNull Action action) {
+		return makeButton(Pages.getPaginator(), action);
+	}
+
+	/**
+	 * Creates a new {@link Button} from configured styles and captions, using the emojis of the supplied
+	 * {@link Paginator} engine.
+	 *
+	 * @param paginator The {@link Paginator} engine holding custom emojis, or null to use default ones.
+	 * @param action    The {@link Action} representing the {@link Button}, must never be null since it is also the ID.<br>
+	 *                  If you supply {@link Action#NONE} a blank disabled button will be created.
+	 * @return The created {@link Button}.
+	 */
+	public Button makeButton(@Nullable Paginator paginator, @NotNull Action action) {
 		ButtonStyle style = styles.getOrDefault(action.getStyle(), ButtonStyle.SECONDARY);
 		String key = action.name() + "." + (int) (Math.random() * Integer.MAX_VALUE);
 
 		if (action == Action.NONE) {
 			return Button.secondary(key, "\u200B").asDisabled();
 		} else {
-			return Button.of(style, key, caption.get(action), Pages.getPaginator().getEmoji(action));
+			return Button.of(style, key, caption.get(action), paginator != null ? paginator.getEmoji(action) : action.getEmoji());
 		}
 	}
 
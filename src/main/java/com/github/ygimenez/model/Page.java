@@ -1,16 +1,25 @@
 package com.github.ygimenez.model;
 
+import com.github.ygimenez.exception.InvalidPageException;
+import com.github.ygimenez.model.source.ChunkedPageSource;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Class representing either a {@link String}, {@link MessageEmbed} or {@link EmbedCluster} object.
+ * Class representing either a {@link String}, {@link MessageEmbed} or {@link EmbedCluster} object.<br>
+ * <br>
+ * Content is checked against Discord's limits when the page is created, so that oversized pages are rejected up
+ * front instead of failing when a user navigates to them. Use {@link ChunkedPageSource} to split large content into
+ * valid pages.
  */
 public class Page {
 	private final Object content;
+	private final int length;
+	private long weight;
 
 	/**
 	 * Create a new {@link Page} for embed-less page.
@@ -19,11 +28,24 @@ public class Page {
 	 * @param content The desired content
 	 */
 	protected Page(@NotNull Object content) throws IllegalArgumentException {
+		this(content, true);
+	}
+
+	/**
+	 * Create a new {@link Page}, optionally without keeping a reference to its content, for subclasses storing it in
+	 * another form and providing it through {@link #getContent()}. The content is validated either way.
+	 * <b>THIS MUST NEVER BE CALLED.</b>
+	 *
+	 * @param content The desired content
+	 * @param retain  Whether to keep a reference to the content.
+	 */
+	protected Page(@NotNull Object content, boolean retain) throws IllegalArgumentException {
 		if (!(content instanceof String || content instanceof MessageEmbed || content instanceof EmbedCluster)) {
 			throw new IllegalArgumentException("Page content must be either a String or a MessageEmbed");
 		}
 
-		this.content = content;
+		this.content = retain ? content : null;
+		this.length = validate(content);
 	}
 
 	/**
@@ -31,6 +53,7 @@ public class Page {
 	 *
 	 * @param content The desired content
 	 * @return A new {@link Page} instance.
+	 * @throws InvalidPageException If the content is longer than {@link Message#MAX_CONTENT_LENGTH}.
 	 */
 	public static Page of(@NotNull String content) {
 		return new Page(content);
@@ -41,6 +64,7 @@ public class Page {
 	 *
 	 * @param content The desired content
 	 * @return A new {@link Page} instance.
+	 * @throws InvalidPageException If the embed is empty or longer than {@link MessageEmbed#EMBED_MAX_LENGTH_BOT}.
 	 */
 	public static Page of(@NotNull MessageEmbed content) {
 		return new Page(content);
@@ -51,6 +75,9 @@ public class Page {
 	 *
 	 * @param content The desired content
 	 * @return A new {@link Page} instance.
+	 * @throws InvalidPageException If the cluster has more than {@link Message#MAX_EMBED_COUNT} embeds, a null or
+	 *                              empty embed, or if the combined length of its embeds is longer than
+	 *                              {@link MessageEmbed#EMBED_MAX_LENGTH_BOT}.
 	 */
 	public static Page of(@NotNull EmbedCluster content) {
 		return new Page(content);
@@ -65,6 +92,90 @@ public class Page {
 		return content;
 	}
 
+	/**
+	 * Retrieves the length of this {@link Page}'s content as counted by Discord against its limits (the amount of
+	 * characters for text, or the combined length of all embeds). This is calculated once, when the page is created.
+	 *
+	 * @return The length of this {@link Page}'s content.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	private static int validate(Object content) throws InvalidPageException {
+		if (content instanceof String) {
+			int length = ((String) content).length();
+			if (length > Message.MAX_CONTENT_LENGTH) {
+				throw new InvalidPageException("content has " + length + " characters, max is " + Message.MAX_CONTENT_LENGTH);
+			}
+
+			return length;
+		} else if (content instanceof MessageEmbed) {
+			return validate((MessageEmbed) content);
+		} else if (content instanceof EmbedCluster) {
+			List<MessageEmbed> embeds = ((EmbedCluster) content).getEmbeds();
+			if (embeds.size() > Message.MAX_EMBED_COUNT) {
+				throw new InvalidPageException("cluster has " + embeds.size() + " embeds, max is " + Message.MAX_EMBED_COUNT);
+			}
+
+			int length = 0;
+			for (MessageEmbed embed : embeds) {
+				if (embed == null) throw new InvalidPageException("cluster has a null embed");
+				length += validate(embed);
+			}
+
+			if (length > MessageEmbed.EMBED_MAX_LENGTH_BOT) {
+				throw new InvalidPageException("cluster embeds have " + length + " characters combined, max is " + MessageEmbed.EMBED_MAX_LENGTH_BOT);
+			}
+
+			return length;
+		}
+
+		return 0;
+	}
+
+	private static int validate(MessageEmbed embed) throws InvalidPageException {
+		if (embed.isEmpty()) {
+			throw new InvalidPageException("embed is empty");
+		} else if (embed.getLength() > MessageEmbed.EMBED_MAX_LENGTH_BOT) {
+			throw new InvalidPageException("embed has " + embed.getLength() + " characters, max is " + MessageEmbed.EMBED_MAX_LENGTH_BOT);
+		}
+
+		return embed.getLength();
+	}
+
+	/**
+	 * Estimates how much memory this {@link Page}'s content takes, in bytes. The estimate is calculated once, on the
+	 * first call.
+	 *
+	 * @return The estimated weight of this {@link Page}.
+	 */
+	public long getWeight() {
+		if (weight == 0) {
+			weight = 64 + estimateWeight(content);
+		}
+
+		return weight;
+	}
+
+	private static long estimateWeight(Object content) {
+		if (content instanceof String) {
+			return 40 + 2L * ((String) content).length();
+		} else if (content instanceof MessageEmbed) {
+			MessageEmbed embed = (MessageEmbed) content;
+			return 256 + 2L * embed.getLength() + 96L * embed.getFields().size();
+		} else if (content instanceof EmbedCluster) {
+			long weight = 32;
+			for (MessageEmbed embed : ((EmbedCluster) content).getEmbeds()) {
+				weight += estimateWeight(embed);
+			}
+
+			return weight;
+		}
+
+		return 0;
+	}
+
 	/**
 	 * Method to get this {@link Page}'s main {@link String} content ({@link Message} content or {@link MessageEmbed} description).
 	 *
@@ -72,6 +183,7 @@ public class Page {
 	 */
 	@Override
 	public String toString() {
+		Object content = getContent();
 		if (content instanceof Message) {
 			return ((Message) content).getContentRaw();
 		} else if (content instanceof MessageEmbed) {
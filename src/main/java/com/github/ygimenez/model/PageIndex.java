@@ -0,0 +1,200 @@
+package com.github.ygimenez.model;
+
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Inverted index over the text of a list of pages, used for searching through a pagination without visiting every
+ * page. Text is taken from message contents as well as embed titles, descriptions and fields, and split into
+ * lowercase words.<br>
+ * <br>
+ * The index is built in the background the first time it's needed, from the pages the list holds at that moment.
+ * Queries match pages containing every word of the query, each query word matching any indexed word it prefixes.
+ * Indexes for interned pages can be shared between events through {@link PageInterner#getIndex(List)}.
+ */
+public class PageIndex {
+	private List<Page> pages;
+	private CompletableFuture<NavigableMap<String, int[]>> terms;
+	private int size;
+
+	/**
+	 * Creates a new {@link PageIndex} over the supplied pages. Nothing is indexed until the index is first used.
+	 *
+	 * @param pages The pages to be indexed.
+	 */
+	public PageIndex(@NotNull List<Page> pages) {
+		this.pages = pages;
+	}
+
+	/**
+	 * Starts building the index in the background, if it wasn't already.
+	 *
+	 * @return A {@link CompletableFuture} completing once the index is ready.
+	 */
+	public synchronized CompletableFuture<?> prepare() {
+		if (terms == null) {
+			List<Page> source = pages;
+			terms = CompletableFuture.supplyAsync(() -> build(source));
+			pages = null;
+		}
+
+		return terms;
+	}
+
+	/**
+	 * Retrieves whether the index was built, meaning queries won't have to wait for it.
+	 *
+	 * @return Whether the index is ready.
+	 */
+	public synchronized boolean isReady() {
+		return terms != null && terms.isDone();
+	}
+
+	/**
+	 * Retrieves the pages matching the supplied query, waiting for the index to be built if needed.
+	 *
+	 * @param query The search query.
+	 * @return A {@link BitSet} holding the indexes of every matching page, which is empty if the query has no words.
+	 */
+	public BitSet search(@NotNull String query) {
+		NavigableMap<String, int[]> terms = getTerms();
+
+		BitSet out = null;
+		for (String word : tokenize(query)) {
+			BitSet matches = new BitSet(size);
+			for (int[] postings : terms.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+				for (int i : postings) {
+					matches.set(i);
+				}
+			}
+
+			if (out == null) out = matches;
+			else out.and(matches);
+
+			if (out.isEmpty()) break;
+		}
+
+		return out == null ? new BitSet() : out;
+	}
+
+	/**
+	 * Retrieves the first page matching the supplied query after the supplied index, wrapping around to the first
+	 * page if there are no matches after it.
+	 *
+	 * @param query The search query.
+	 * @param from  The index to search after, or -1 to search from the first page.
+	 * @return The index of the matching page, or -1 if there's none.
+	 */
+	public int next(@NotNull String query, int from) {
+		BitSet matches = search(query);
+
+		int next = matches.nextSetBit(from + 1);
+		return next >= 0 ? next : matches.nextSetBit(0);
+	}
+
+	/**
+	 * Retrieves the amount of distinct indexed words, waiting for the index to be built if needed.
+	 *
+	 * @return The amount of indexed words.
+	 */
+	public int getTermCount() {
+		return getTerms().size();
+	}
+
+	private NavigableMap<String, int[]> getTerms() {
+		CompletableFuture<NavigableMap<String, int[]>> terms;
+		synchronized (this) {
+			prepare();
+			terms = this.terms;
+		}
+
+		return terms.join();
+	}
+
+	private NavigableMap<String, int[]> build(List<Page> pages) {
+		Map<String, int[]> postings = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+
+		int index = 0;
+		for (Page p : pages) {
+			for (String word : tokenize(extract(p.getContent()))) {
+				int[] list = postings.computeIfAbsent(word, k -> new int[4]);
+				int count = counts.getOrDefault(word, 0);
+				if (count == list.length) {
+					list = Arrays.copyOf(list, count * 2);
+					postings.put(word, list);
+				}
+
+				list[count] = index;
+				counts.put(word, count + 1);
+			}
+
+			index++;
+		}
+
+		NavigableMap<String, int[]> out = new TreeMap<>();
+		for (Map.Entry<String, int[]> e : postings.entrySet()) {
+			out.put(e.getKey(), Arrays.copyOf(e.getValue(), counts.get(e.getKey())));
+		}
+
+		size = index;
+		return out;
+	}
+
+	private static String extract(Object content) {
+		StringBuilder sb = new StringBuilder();
+		if (content instanceof String) {
+			sb.append((String) content);
+		} else if (content instanceof MessageEmbed) {
+			extract(sb, (MessageEmbed) content);
+		} else if (content instanceof EmbedCluster) {
+			for (MessageEmbed embed : ((EmbedCluster) content).getEmbeds()) {
+				extract(sb, embed);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private static void extract(StringBuilder sb, MessageEmbed embed) {
+		if (embed.getTitle() != null) sb.append(embed.getTitle()).append('\n');
+		if (embed.getDescription() != null) sb.append(embed.getDescription()).append('\n');
+		for (MessageEmbed.Field f : embed.getFields()) {
+			if (f.getName() != null) sb.append(f.getName()).append('\n');
+			if (f.getValue() != null) sb.append(f.getValue()).append('\n');
+		}
+	}
+
+	private static Set<String> tokenize(String text) {
+		Set<String> out = new HashSet<>();
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < text.length(); ) {
+			int cp = text.codePointAt(i);
+			i += Character.charCount(cp);
+
+			if (Character.isLetterOrDigit(cp)) {
+				word.appendCodePoint(Character.toLowerCase(cp));
+			} else if (word.length() > 0) {
+				out.add(word.toString());
+				word.setLength(0);
+			}
+		}
+
+		if (word.length() > 0) {
+			out.add(word.toString());
+		}
+
+		return out;
+	}
+}
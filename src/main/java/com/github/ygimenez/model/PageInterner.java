@@ -0,0 +1,247 @@
+package com.github.ygimenez.model;
+
+import net.dv8tion.jda.api.components.buttons.ButtonStyle;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of canonical {@link Page} instances, allowing identical pages created by different events (such as the same
+ * leaderboard shown in thousands of channels) to be stored only once.<br>
+ * <br>
+ * Pages are matched by type and content, as well as button styles and captions for {@link InteractPage}s, and are
+ * only weakly (or softly) held, so the pool never keeps a page alive on its own. Since an interned page may be
+ * shared by many events, it must not be modified afterward.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * static final PageInterner INTERNER = new PageInterner();
+ * ...
+ * Pages.paginate(msg, new PaginateHelper(pages, true, INTERNER));
+ * }</pre>
+ */
+public class PageInterner {
+	private final Map<Key, Reference<Page>> pool = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Page> queue = new ReferenceQueue<>();
+	private final Map<IndexKey, IndexEntry> indexes = new ConcurrentHashMap<>();
+	private final ReferenceQueue<PageIndex> indexQueue = new ReferenceQueue<>();
+	private final boolean soft;
+
+	private static final class Key {
+		private final Class<?> type;
+		private final Object content;
+		private final Map<ButtonStyle, ButtonStyle> styles;
+		private final Map<?, String> captions;
+		private final int hash;
+
+		private Key(Page page) {
+			this.type = page.getClass();
+			this.content = page.getContent();
+			if (page instanceof InteractPage) {
+				this.styles = new HashMap<>(((InteractPage) page).getStyles());
+				this.captions = new HashMap<>(((InteractPage) page).getCaptions());
+			} else {
+				this.styles = Map.of();
+				this.captions = Map.of();
+			}
+
+			this.hash = Objects.hash(type, content, styles, captions);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Key)) return false;
+
+			Key key = (Key) o;
+			return hash == key.hash
+					&& type == key.type
+					&& content.equals(key.content)
+					&& styles.equals(key.styles)
+					&& captions.equals(key.captions);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class IndexKey {
+		private final Page[] pages;
+		private final int hash;
+
+		private IndexKey(List<Page> pages) {
+			this.pages = pages.toArray(new Page[0]);
+
+			int hash = 1;
+			for (Page p : this.pages) {
+				hash = 31 * hash + System.identityHashCode(p);
+			}
+
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof IndexKey)) return false;
+
+			IndexKey key = (IndexKey) o;
+			if (hash != key.hash || pages.length != key.pages.length) return false;
+
+			for (int i = 0; i < pages.length; i++) {
+				if (pages[i] != key.pages[i]) return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class IndexEntry extends WeakReference<PageIndex> {
+		private final IndexKey key;
+
+		private IndexEntry(PageIndex index, IndexKey key, ReferenceQueue<PageIndex> queue) {
+			super(index, queue);
+			this.key = key;
+		}
+	}
+
+	private interface Keyed {
+		Key getKey();
+	}
+
+	private static final class WeakEntry extends WeakReference<Page> implements Keyed {
+		private final Key key;
+
+		private WeakEntry(Page page, Key key, ReferenceQueue<Page> queue) {
+			super(page, queue);
+			this.key = key;
+		}
+
+		@Override
+		public Key getKey() {
+			return key;
+		}
+	}
+
+	private static final class SoftEntry extends SoftReference<Page> implements Keyed {
+		private final Key key;
+
+		private SoftEntry(Page page, Key key, ReferenceQueue<Page> queue) {
+			super(page, queue);
+			this.key = key;
+		}
+
+		@Override
+		public Key getKey() {
+			return key;
+		}
+	}
+
+	/**
+	 * Creates a new {@link PageInterner} weakly holding its pages, which are dropped as soon as no event uses them.
+	 */
+	public PageInterner() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@link PageInterner}.
+	 *
+	 * @param soft Whether to softly hold pages, keeping unused pages around until memory runs low, instead of weakly.
+	 */
+	public PageInterner(boolean soft) {
+		this.soft = soft;
+	}
+
+	/**
+	 * Retrieves the canonical instance of the supplied {@link Page}, adding it to the pool if there's none.
+	 *
+	 * @param page The {@link Page} to be interned.
+	 * @param <T>  The type of the page.
+	 * @return A page identical to the supplied one, which may be the same instance.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Page> T intern(@NotNull T page) {
+		expunge();
+
+		Key key = new Key(page);
+		while (true) {
+			Reference<Page> ref = pool.get(key);
+			if (ref != null) {
+				Page existing = ref.get();
+				if (existing != null) return (T) existing;
+
+				pool.remove(key, ref);
+				continue;
+			}
+
+			Reference<Page> entry = soft ? new SoftEntry(page, key, queue) : new WeakEntry(page, key, queue);
+			if (pool.putIfAbsent(key, entry) == null) return page;
+		}
+	}
+
+	/**
+	 * Retrieves the {@link PageIndex} for the supplied pages, shared by every event using the same page instances in
+	 * the same order (such as pages interned by this pool). The index is only weakly held, so it's dropped once no
+	 * event uses it.
+	 *
+	 * @param pages The pages to be indexed.
+	 * @return The shared {@link PageIndex}.
+	 */
+	public PageIndex getIndex(@NotNull List<Page> pages) {
+		expunge();
+
+		IndexKey key = new IndexKey(pages);
+		while (true) {
+			IndexEntry ref = indexes.get(key);
+			if (ref != null) {
+				PageIndex existing = ref.get();
+				if (existing != null) return existing;
+
+				indexes.remove(key, ref);
+				continue;
+			}
+
+			PageIndex index = new PageIndex(Arrays.asList(key.pages));
+			if (indexes.putIfAbsent(key, new IndexEntry(index, key, indexQueue)) == null) return index;
+		}
+	}
+
+	/**
+	 * Retrieves the amount of pages in the pool, including those already collected but not yet removed.
+	 *
+	 * @return The amount of pooled pages.
+	 */
+	public int size() {
+		expunge();
+		return pool.size();
+	}
+
+	private void expunge() {
+		Reference<? extends Page> ref;
+		while ((ref = queue.poll()) != null) {
+			pool.remove(((Keyed) ref).getKey(), ref);
+		}
+
+		Reference<? extends PageIndex> index;
+		while ((index = indexQueue.poll()) != null) {
+			indexes.remove(((IndexEntry) index).key, index);
+		}
+	}
+}
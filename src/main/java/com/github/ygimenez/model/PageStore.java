@@ -0,0 +1,340 @@
+package com.github.ygimenez.model;
+
+import com.github.ygimenez.type.Action;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.components.buttons.ButtonStyle;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Append-only {@link List} of pages keeping them serialized outside the Java heap, either in direct
+ * {@link ByteBuffer}s or in a memory-mapped temporary file, for paginations too large to be comfortably held as
+ * objects. Only a compact index of offsets stays on-heap, and a {@link Page} is only rebuilt when retrieved, such as
+ * when it's being displayed.<br>
+ * <br>
+ * Pages are stored as either {@link Page} or {@link InteractPage} (along with their styles and captions), so subclass
+ * types aren't kept. The store may be supplied to {@link com.github.ygimenez.model.helper.PaginateHelper} as its list
+ * of pages, and should be closed once no event uses it anymore.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * PageStore store = new PageStore(Files.createTempFile("pages", ".bin"));
+ * export.forEach(row -> store.add(InteractPage.of(row)));
+ *
+ * Pages.paginate(msg, new PaginateHelper(store, true));
+ * }</pre>
+ */
+public class PageStore extends AbstractList<Page> implements RandomAccess, AutoCloseable {
+	private static final int SEGMENT_SIZE = 1 << 20;
+	private static final byte PAGE = 0;
+	private static final byte INTERACT_PAGE = 1;
+	private static final byte TEXT = 0;
+	private static final byte EMBED = 1;
+	private static final byte CLUSTER = 2;
+
+	private final List<ByteBuffer> segments = new ArrayList<>();
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+	private final FileChannel channel;
+	private long[] index = new long[64];
+	private int size = 0;
+	private int segment = -1;
+	private long mapped = 0;
+	private boolean closed = false;
+
+	/**
+	 * Creates a new {@link PageStore} keeping pages in direct {@link ByteBuffer}s, allocated as needed.
+	 */
+	public PageStore() {
+		this.channel = null;
+	}
+
+	/**
+	 * Creates a new {@link PageStore} keeping pages in the supplied file, mapped into memory as needed. The file is
+	 * overwritten, and deleted when the store is closed.
+	 *
+	 * @param file The {@link Path} to the backing file.
+	 * @throws IOException If the file cannot be opened.
+	 */
+	public PageStore(@NotNull Path file) throws IOException {
+		this.channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE
+		);
+	}
+
+	@Override
+	public synchronized Page get(int index) {
+		checkOpen();
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+
+		long pos = this.index[index];
+		ByteBuffer buf = segments.get((int) (pos >>> 32)).duplicate();
+		buf.position((int) pos);
+		buf.getInt();
+
+		return read(buf);
+	}
+
+	@Override
+	public synchronized int size() {
+		return size;
+	}
+
+	@Override
+	public synchronized boolean add(@NotNull Page page) {
+		checkOpen();
+
+		byte[] data = write(page);
+		int need = data.length + Integer.BYTES;
+		if (segment < 0 || segments.get(segment).remaining() < need) {
+			nextSegment(need);
+		}
+
+		ByteBuffer buf = segments.get(segment);
+		if (size == index.length) {
+			index = Arrays.copyOf(index, size * 2);
+		}
+
+		index[size++] = ((long) segment << 32) | buf.position();
+		buf.putInt(data.length).put(data);
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Appends a page to the store. Pages can only be added at the end.
+	 *
+	 * @param index The position of the page, which must be equal to {@link #size()}.
+	 * @param page  The page to be added.
+	 * @throws UnsupportedOperationException If the position isn't the end of the store.
+	 */
+	@Override
+	public synchronized void add(int index, @NotNull Page page) {
+		if (index != size) {
+			throw new UnsupportedOperationException("Pages can only be appended to a PageStore");
+		}
+
+		add(page);
+	}
+
+	/**
+	 * Removes all pages from the store. Already allocated space is kept and reused by pages added afterward.
+	 */
+	@Override
+	public synchronized void clear() {
+		for (ByteBuffer buf : segments) {
+			buf.clear();
+		}
+
+		size = 0;
+		segment = -1;
+		modCount++;
+	}
+
+	/**
+	 * Retrieves how many bytes were allocated for storing pages, including unused space.
+	 *
+	 * @return The amount of allocated bytes.
+	 */
+	public synchronized long getAllocated() {
+		long total = 0;
+		for (ByteBuffer buf : segments) {
+			total += buf.capacity();
+		}
+
+		return total;
+	}
+
+	/**
+	 * Estimates how much heap memory this store takes, in bytes. Unlike a regular list of pages, this only accounts
+	 * for the index of offsets.
+	 *
+	 * @return The estimated weight of this store.
+	 */
+	public synchronized long getWeight() {
+		return 64 + 8L * index.length + 48L * segments.size();
+	}
+
+	/**
+	 * Releases the allocated space, deleting the backing file if there's one. The store cannot be used afterward.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed) return;
+
+		closed = true;
+		segments.clear();
+		index = new long[0];
+		size = 0;
+
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private void checkOpen() {
+		if (closed) {
+			throw new IllegalStateException("This PageStore was already closed");
+		}
+	}
+
+	private void nextSegment(int need) {
+		int next = segment + 1;
+		if (next < segments.size() && segments.get(next).capacity() >= need) {
+			segment = next;
+			return;
+		}
+
+		int capacity = Math.max(SEGMENT_SIZE, need);
+		ByteBuffer buf;
+		if (channel == null) {
+			buf = ByteBuffer.allocateDirect(capacity);
+		} else {
+			try {
+				buf = channel.map(FileChannel.MapMode.READ_WRITE, mapped, capacity);
+				mapped += capacity;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		if (next < segments.size()) {
+			segments.set(next, buf);
+		} else {
+			segments.add(buf);
+		}
+
+		segment = next;
+	}
+
+	private byte[] write(Page page) {
+		buffer.reset();
+
+		try {
+			DataOutputStream out = new DataOutputStream(buffer);
+			if (page instanceof InteractPage) {
+				InteractPage ip = (InteractPage) page;
+				out.writeByte(INTERACT_PAGE);
+
+				out.writeByte(ip.getStyles().size());
+				for (Map.Entry<ButtonStyle, ButtonStyle> e : ip.getStyles().entrySet()) {
+					out.writeByte(e.getKey().ordinal());
+					out.writeByte(e.getValue().ordinal());
+				}
+
+				out.writeByte((int) ip.getCaptions().values().stream().filter(Objects::nonNull).count());
+				for (Map.Entry<Action, String> e : ip.getCaptions().entrySet()) {
+					if (e.getValue() == null) continue;
+
+					out.writeByte(e.getKey().ordinal());
+					writeBytes(out, e.getValue().getBytes(StandardCharsets.UTF_8));
+				}
+			} else {
+				out.writeByte(PAGE);
+			}
+
+			Object content = page.getContent();
+			if (content instanceof String) {
+				out.writeByte(TEXT);
+				writeBytes(out, ((String) content).getBytes(StandardCharsets.UTF_8));
+			} else if (content instanceof MessageEmbed) {
+				out.writeByte(EMBED);
+				writeBytes(out, ((MessageEmbed) content).toData().toJson());
+			} else if (content instanceof EmbedCluster) {
+				List<MessageEmbed> embeds = ((EmbedCluster) content).getEmbeds();
+				out.writeByte(CLUSTER);
+				out.writeByte(embeds.size());
+				for (MessageEmbed embed : embeds) {
+					writeBytes(out, embed.toData().toJson());
+				}
+			} else {
+				throw new IllegalArgumentException("Unsupported page content: " + content.getClass().getName());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return buffer.toByteArray();
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static Page read(ByteBuffer buf) {
+		boolean interact = buf.get() == INTERACT_PAGE;
+
+		Map<ButtonStyle, ButtonStyle> styles = new EnumMap<>(ButtonStyle.class);
+		Map<Action, String> captions = new EnumMap<>(Action.class);
+		if (interact) {
+			ButtonStyle[] values = ButtonStyle.values();
+			for (int i = buf.get(); i > 0; i--) {
+				styles.put(values[buf.get()], values[buf.get()]);
+			}
+
+			Action[] actions = Action.values();
+			for (int i = buf.get(); i > 0; i--) {
+				captions.put(actions[buf.get()], new String(readBytes(buf), StandardCharsets.UTF_8));
+			}
+		}
+
+		Object content;
+		byte kind = buf.get();
+		if (kind == TEXT) {
+			content = new String(readBytes(buf), StandardCharsets.UTF_8);
+		} else if (kind == EMBED) {
+			content = readEmbed(buf);
+		} else {
+			MessageEmbed[] embeds = new MessageEmbed[buf.get()];
+			for (int i = 0; i < embeds.length; i++) {
+				embeds[i] = readEmbed(buf);
+			}
+
+			content = new EmbedCluster(embeds);
+		}
+
+		if (!interact) return new Page(content);
+
+		InteractPage page = new InteractPage(content);
+		page.getStyles().putAll(styles);
+		page.getCaptions().putAll(captions);
+		return page;
+	}
+
+	private static MessageEmbed readEmbed(ByteBuffer buf) {
+		return EmbedBuilder.fromData(DataObject.fromJson(readBytes(buf))).build();
+	}
+
+	private static byte[] readBytes(ByteBuffer buf) {
+		byte[] bytes = new byte[buf.getInt()];
+		buf.get(bytes);
+
+		return bytes;
+	}
+}
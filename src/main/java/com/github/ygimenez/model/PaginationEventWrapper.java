@@ -11,6 +11,8 @@ import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.message.react.GenericMessageReactionEvent;
 import net.dv8tion.jda.api.exceptions.InsufficientPermissionException;
 import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.callbacks.IDeferrableCallback;
+import net.dv8tion.jda.api.interactions.modals.ModalMapping;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -24,20 +26,43 @@ public class PaginationEventWrapper {
 	private final Object content;
 	private final InteractionHook hook;
 	private final boolean isFromGuild;
+	private final boolean fetched;
 
 	/**
 	 * Constructs a new {@link PaginationEventWrapper} instance. You probably shouldn't be creating one yourself.
 	 *
-	 * @param source      The source event, will be either a {@link GenericMessageReactionEvent} or a {@link ButtonInteractionEvent}.
+	 * @param source      The source event, will be either a {@link GenericMessageReactionEvent}, a
+	 *                    {@link ButtonInteractionEvent} or a {@link net.dv8tion.jda.api.events.interaction.ModalInteractionEvent}.
 	 * @param user        The {@link User} who triggered the event.
 	 * @param channel     The {@link MessageChannel} where the event happened.
 	 * @param message     The {@link Message}.
-	 * @param content     The button which was pressed, will be either a {@link MessageReaction} or a {@link Button}.
+	 * @param content     The button which was pressed, will be either a {@link MessageReaction} or a {@link Button}, or
+	 *                    the {@link ModalMapping} holding the value submitted for {@link com.github.ygimenez.type.Action#GOTO_PAGE}
+	 *                    or {@link com.github.ygimenez.type.Action#SEARCH}.
 	 * @param isFromGuild Whether the event happened on a {@link Guild} or not.
 	 */
 	public PaginationEventWrapper(Object source, User user, MessageChannel channel, Message message, Object content, boolean isFromGuild) {
-		if (source instanceof ButtonInteractionEvent) {
-			hook = ((ButtonInteractionEvent) source).getHook();
+		this(source, user, channel, message, content, isFromGuild, false);
+	}
+
+	/**
+	 * Constructs a new {@link PaginationEventWrapper} instance. You probably shouldn't be creating one yourself.
+	 *
+	 * @param source      The source event, will be either a {@link GenericMessageReactionEvent}, a
+	 *                    {@link ButtonInteractionEvent} or a {@link net.dv8tion.jda.api.events.interaction.ModalInteractionEvent}.
+	 * @param user        The {@link User} who triggered the event.
+	 * @param channel     The {@link MessageChannel} where the event happened.
+	 * @param message     The {@link Message}.
+	 * @param content     The button which was pressed, will be either a {@link MessageReaction} or a {@link Button}, or
+	 *                    the {@link ModalMapping} holding the value submitted for {@link com.github.ygimenez.type.Action#GOTO_PAGE}
+	 *                    or {@link com.github.ygimenez.type.Action#SEARCH}.
+	 * @param isFromGuild Whether the event happened on a {@link Guild} or not.
+	 * @param fetched     Whether the {@link Message} was just retrieved, in which case {@link #retrieveMessage()} won't
+	 *                    fetch it again.
+	 */
+	public PaginationEventWrapper(Object source, User user, MessageChannel channel, Message message, Object content, boolean isFromGuild, boolean fetched) {
+		if (source instanceof IDeferrableCallback) {
+			hook = ((IDeferrableCallback) source).getHook();
 		} else {
 			hook = null;
 		}
@@ -48,6 +73,7 @@ public class PaginationEventWrapper {
 		this.message = message;
 		this.content = content;
 		this.isFromGuild = isFromGuild;
+		this.fetched = fetched;
 	}
 
 	/**
@@ -78,12 +104,13 @@ public class PaginationEventWrapper {
 	}
 
 	/**
-	 * Retrieves the {@link Message} from the event. Will not fetch the new state if the message is ephemeral.
+	 * Retrieves the {@link Message} from the event. Will not fetch the new state if the message is ephemeral or was
+	 * already retrieved when handling the event.
 	 *
 	 * @return The {@link Message}.
 	 */
 	public Message retrieveMessage() {
-		if (message.isEphemeral()) {
+		if (fetched || message.isEphemeral()) {
 			return message;
 		}
 
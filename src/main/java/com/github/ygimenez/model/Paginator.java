@@ -1,8 +1,20 @@
 package com.github.ygimenez.model;
 
+import com.github.ygimenez.exception.AlreadyActivatedException;
+import com.github.ygimenez.exception.InvalidHandlerException;
+import com.github.ygimenez.exception.InvalidStateException;
 import com.github.ygimenez.listener.EventHandler;
+import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.PUtilsConfig.LogLevel;
+import com.github.ygimenez.model.helper.BaseHelper;
+import com.github.ygimenez.model.helper.ButtonizeHelper;
+import com.github.ygimenez.model.helper.CategorizeHelper;
+import com.github.ygimenez.model.helper.LazyPaginateHelper;
+import com.github.ygimenez.model.helper.PaginateHelper;
+import com.github.ygimenez.model.store.SessionRecord;
+import com.github.ygimenez.model.store.SessionStore;
 import com.github.ygimenez.type.Action;
+import com.github.ygimenez.type.QuotaPolicy;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Message;
@@ -10,11 +22,15 @@ import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import net.dv8tion.jda.internal.utils.JDALogger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This is the core object for Pagination-Utils' settings.<br>
@@ -22,16 +38,33 @@ import java.util.Map;
  * All settings changed during {@link Paginator} creation will reflect across the whole library,
  * allowing further customization of it.<br>
  * <br>
+ * Each {@link Paginator} is also an independent pagination engine, with its own {@link EventHandler},
+ * {@link TaskScheduler} and limits. Besides being set as the library-wide engine through
+ * {@link Pages#activate(Paginator)}, it can be activated on its own through {@link #activate()} and used directly
+ * (such as through {@link #paginate(Message, PaginateHelper)}), allowing multiple bots or shard managers to run
+ * isolated engines in the same JVM.<br>
+ * <br>
  * <strong>This class must only be instantiated by {@link PaginatorBuilder}</strong>.
  */
 public class Paginator {
-	private final TaskScheduler scheduler = new TaskScheduler();
-	private final EventHandler evtHandler = new EventHandler();
+	private TaskScheduler scheduler = new TaskScheduler();
+	private ExecutorService storeExecutor = createStoreExecutor();
+	private EventHandler evtHandler = new EventHandler(this);
+	private final ReactionRemover reactionRemover = new ReactionRemover(this);
 
 	private Object handler = null;
+	private boolean activated = false;
+	private int partitions = 1;
 	private boolean removeOnReact = false;
 	private boolean eventLocked = false;
 	private boolean deleteOnCancel = false;
+	private long memoryBudget = 0;
+	private int expectedEvents = 0;
+	private int guildQuota = 0;
+	private int userQuota = 0;
+	private QuotaPolicy quotaPolicy = QuotaPolicy.REJECT;
+	private SessionStore sessionStore = null;
+	private ThrowingFunction<SessionRecord, BaseHelper<?, ?>> rehydrator = null;
 	private Map<Action, Emoji> emotes = new EnumMap<>(Action.class);
 	private ThrowingConsumer<InteractionHook> onRemove = hook -> hook.editOriginalComponents().submit();
 	private Logger logger = null;
@@ -61,6 +94,117 @@ public class Paginator {
 		return handler;
 	}
 
+	/**
+	 * Registers this engine's {@link EventHandler} on its handler, allowing it to process events without being set as
+	 * the library-wide engine. Use {@link Pages#activate(Paginator)} for the later.
+	 *
+	 * @throws AlreadyActivatedException Thrown if this engine was already activated.
+	 * @throws InvalidHandlerException   Thrown if the handler isn't either a {@link JDA} or {@link ShardManager} object.
+	 */
+	public synchronized void activate() throws InvalidHandlerException {
+		if (activated) throw new AlreadyActivatedException();
+
+		if (scheduler.isShutdown()) {
+			scheduler = new TaskScheduler(partitions);
+		}
+		if (storeExecutor.isShutdown()) {
+			storeExecutor = createStoreExecutor();
+		}
+
+		if (handler instanceof JDA) {
+			((JDA) handler).addEventListener(evtHandler);
+		} else if (handler instanceof ShardManager) {
+			((ShardManager) handler).addEventListener(evtHandler);
+		} else {
+			throw new InvalidHandlerException();
+		}
+
+		activated = true;
+		log(LogLevel.LEVEL_3, "Pagination Utils activated successfully");
+	}
+
+	/**
+	 * Unregisters this engine's {@link EventHandler} from its handler and stops its {@link TaskScheduler}, discarding
+	 * pending timeouts, as well as its {@link #getStoreExecutor() store executor}.<br>
+	 * <br>
+	 * Using this method without activating beforehand will do nothing.
+	 */
+	public synchronized void deactivate() {
+		if (!activated) return;
+
+		if (handler instanceof JDA) {
+			((JDA) handler).removeEventListener(evtHandler);
+		} else if (handler instanceof ShardManager) {
+			((ShardManager) handler).removeEventListener(evtHandler);
+		}
+
+		scheduler.shutdown();
+		storeExecutor.shutdown();
+		activated = false;
+		log(LogLevel.LEVEL_3, "Pagination Utils deactivated successfully");
+	}
+
+	/**
+	 * Checks whether this engine has been activated or not.
+	 *
+	 * @return The activation state of this engine.
+	 */
+	public boolean isActivated() {
+		return activated && handler != null;
+	}
+
+	/**
+	 * Adds navigation buttons to the specified {@link Message}, handled by this engine. See
+	 * {@link Pages#paginate(Message, PaginateHelper)}.
+	 *
+	 * @param msg    The {@link Message} sent which will be paginated.
+	 * @param helper A {@link PaginateHelper} holding desired pagination settings.
+	 * @return An {@link ActionReference} pointing to this action.
+	 * @throws InvalidStateException Thrown if this engine wasn't activated or the page list is empty.
+	 */
+	public ActionReference paginate(@NotNull Message msg, @NotNull PaginateHelper helper) {
+		return Pages.paginate(this, msg, helper);
+	}
+
+	/**
+	 * Adds menu-like buttons to the specified {@link Message}, handled by this engine. See
+	 * {@link Pages#categorize(Message, CategorizeHelper)}.
+	 *
+	 * @param msg    The {@link Message} sent which will be categorized.
+	 * @param helper A {@link CategorizeHelper} holding desired categorization settings.
+	 * @return An {@link ActionReference} pointing to this action.
+	 * @throws InvalidStateException Thrown if this engine wasn't activated.
+	 */
+	public ActionReference categorize(@NotNull Message msg, @NotNull CategorizeHelper helper) {
+		return Pages.categorize(this, msg, helper);
+	}
+
+	/**
+	 * Adds buttons to the specified {@link Message}, handled by this engine. See
+	 * {@link Pages#buttonize(Message, ButtonizeHelper)}.
+	 *
+	 * @param msg    The {@link Message} sent which will be buttoned.
+	 * @param helper A {@link ButtonizeHelper} holding desired buttonization settings.
+	 * @return An {@link ActionReference} pointing to this action.
+	 * @throws InvalidStateException Thrown if this engine wasn't activated.
+	 */
+	public ActionReference buttonize(@NotNull Message msg, @NotNull ButtonizeHelper helper) {
+		return Pages.buttonize(this, msg, helper);
+	}
+
+	/**
+	 * Adds navigation buttons to the specified {@link Message}, loading pages on demand and handled by this engine.
+	 * See {@link Pages#lazyPaginate(Message, LazyPaginateHelper)}.
+	 *
+	 * @param msg    The {@link Message} sent which will be paginated.
+	 * @param helper A {@link LazyPaginateHelper} holding desired lazy pagination settings.
+	 * @return An {@link ActionReference} pointing to this action.
+	 * @throws InvalidStateException Thrown if this engine wasn't activated or the first page cannot be generated.
+	 */
+	public ActionReference lazyPaginate(@NotNull Message msg, @NotNull LazyPaginateHelper helper) {
+		return Pages.lazyPaginate(this, msg, helper);
+	}
+
 	/**
 	 * Set the handler used for event processing.
 	 * <br>
@@ -139,6 +283,168 @@ public class Paginator {
 		this.deleteOnCancel = deleteOnCancel;
 	}
 
+	/**
+	 * Retrieves how many partitions events and timeouts are split into.
+	 *
+	 * @return The amount of partitions.
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * Set how many partitions events and timeouts are split into, recreating this {@link Paginator}'s
+	 * {@link EventHandler} and {@link TaskScheduler}.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param partitions The amount of partitions.
+	 */
+	protected void setPartitions(int partitions) {
+		if (partitions == this.partitions) return;
+
+		this.partitions = partitions;
+		this.scheduler.shutdown();
+		this.scheduler = new TaskScheduler(partitions);
+		this.evtHandler = new EventHandler(this);
+	}
+
+	/**
+	 * Retrieves the maximum estimated memory active events may take, in bytes.
+	 *
+	 * @return The memory budget, or 0 if unlimited.
+	 */
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Set the maximum estimated memory active events may take, in bytes.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param memoryBudget The memory budget, or 0 for unlimited.
+	 */
+	protected void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Retrieves how many active events are expected at once, used for sizing the {@link EventHandler}'s lookups.
+	 *
+	 * @return The expected amount of events, or 0 if the default is used.
+	 */
+	public int getExpectedEvents() {
+		return expectedEvents;
+	}
+
+	/**
+	 * Set how many active events are expected at once, recreating this {@link Paginator}'s {@link EventHandler}.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param expectedEvents The expected amount of events, or 0 for the default.
+	 */
+	protected void setExpectedEvents(int expectedEvents) {
+		if (expectedEvents == this.expectedEvents) return;
+
+		this.expectedEvents = expectedEvents;
+		this.evtHandler = new EventHandler(this);
+	}
+
+	/**
+	 * Retrieves the maximum amount of active events per guild.
+	 *
+	 * @return The guild quota, or 0 if unlimited.
+	 */
+	public int getGuildQuota() {
+		return guildQuota;
+	}
+
+	/**
+	 * Set the maximum amount of active events per guild.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param guildQuota The guild quota, or 0 for unlimited.
+	 */
+	protected void setGuildQuota(int guildQuota) {
+		this.guildQuota = guildQuota;
+	}
+
+	/**
+	 * Retrieves the maximum amount of active events per owner.
+	 *
+	 * @return The user quota, or 0 if unlimited.
+	 */
+	public int getUserQuota() {
+		return userQuota;
+	}
+
+	/**
+	 * Set the maximum amount of active events per owner.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param userQuota The user quota, or 0 for unlimited.
+	 */
+	protected void setUserQuota(int userQuota) {
+		this.userQuota = userQuota;
+	}
+
+	/**
+	 * Retrieves what happens when creating an event would exceed a quota.
+	 *
+	 * @return The {@link QuotaPolicy}.
+	 */
+	public QuotaPolicy getQuotaPolicy() {
+		return quotaPolicy;
+	}
+
+	/**
+	 * Set what happens when creating an event would exceed a quota.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param quotaPolicy The {@link QuotaPolicy}.
+	 */
+	protected void setQuotaPolicy(QuotaPolicy quotaPolicy) {
+		this.quotaPolicy = quotaPolicy;
+	}
+
+	/**
+	 * Retrieves the {@link SessionStore} sharing events between nodes.
+	 *
+	 * @return The {@link SessionStore}, or null if events are only kept locally.
+	 */
+	@Nullable
+	public SessionStore getSessionStore() {
+		return sessionStore;
+	}
+
+	/**
+	 * Retrieves the function rebuilding helpers from {@link SessionRecord}s.
+	 *
+	 * @return The rehydration function, or null if events are only kept locally.
+	 */
+	@Nullable
+	public ThrowingFunction<SessionRecord, BaseHelper<?, ?>> getRehydrator() {
+		return rehydrator;
+	}
+
+	/**
+	 * Set the {@link SessionStore} sharing events between nodes, and the function rebuilding helpers from it.
+	 * <br>
+	 * <strong>This must only be called by {@link PaginatorBuilder}</strong>.
+	 *
+	 * @param sessionStore The {@link SessionStore}, or null to only keep events locally.
+	 * @param rehydrator   The function rebuilding helpers from stored records.
+	 */
+	protected void setSessionStore(@Nullable SessionStore sessionStore, @Nullable ThrowingFunction<SessionRecord, BaseHelper<?, ?>> rehydrator) {
+		this.sessionStore = sessionStore;
+		this.rehydrator = rehydrator;
+	}
+
 	/**
 	 * Retrieve the action performed when encountering an unmapped event.
 	 *
@@ -198,6 +504,30 @@ public class Paginator {
 		return scheduler;
 	}
 
+	/**
+	 * Retrieves the executor running this {@link Paginator}'s {@link SessionStore} operations, so that slow stores
+	 * don't hold the gateway thread nor share threads with unrelated tasks.
+	 *
+	 * @return The {@link ExecutorService} instance.
+	 */
+	public ExecutorService getStoreExecutor() {
+		return storeExecutor;
+	}
+
+	private static ExecutorService createStoreExecutor() {
+		return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Retrieves this {@link Paginator}'s {@link ReactionRemover} instance, used to remove reactions when
+	 * {@link #isRemoveOnReact()} is enabled.
+	 *
+	 * @return The {@link ReactionRemover} instance.
+	 */
+	public ReactionRemover getReactionRemover() {
+		return reactionRemover;
+	}
+
 	/**
 	 * Retrieves this {@link Paginator}'s {@link EventHandler} instance.
 	 *
@@ -5,7 +5,11 @@ import com.github.ygimenez.exception.AlreadyAssignedException;
 import com.github.ygimenez.exception.InvalidHandlerException;
 import com.github.ygimenez.exception.InvalidStateException;
 import com.github.ygimenez.method.Pages;
+import com.github.ygimenez.model.helper.BaseHelper;
+import com.github.ygimenez.model.store.SessionRecord;
+import com.github.ygimenez.model.store.SessionStore;
 import com.github.ygimenez.type.Action;
+import com.github.ygimenez.type.QuotaPolicy;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Message;
@@ -14,6 +18,7 @@ import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.sharding.ShardManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 
@@ -24,6 +29,7 @@ import java.util.Map;
  */
 public class PaginatorBuilder {
 	private final Paginator paginator;
+	private int partitions = 0;
 
 	/**
 	 * {@link PaginatorBuilder}'s constructor, which is private.<br>
@@ -135,7 +141,8 @@ public class PaginatorBuilder {
 	/**
 	 * Set whether user reactions will be removed after pressing the button or not.
 	 * If this is enabled, the bot will require {@link Permission#MESSAGE_MANAGE} permission
-	 * for the buttons to work.
+	 * for the buttons to work. Removals are queued per channel and submitted in the background, see
+	 * {@link ReactionRemover}.
 	 *
 	 * @param shouldRemove Whether reactions will be removed on press or not (default: false).
 	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
@@ -188,6 +195,166 @@ public class PaginatorBuilder {
 		return this;
 	}
 
+	/**
+	 * Retrieves how many partitions events and timeouts are split into.
+	 *
+	 * @return The amount of partitions, or 0 if it'll be chosen on {@link #build()}.
+	 */
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/**
+	 * Set how many partitions events and timeouts are split into. Each partition holds its own event map and
+	 * timeout thread, with shards assigned to partitions by their ID, so that shards don't contend with each other.
+	 * <br>
+	 * If not set, a {@link ShardManager} handler gets one partition per shard (up to the amount of available
+	 * processors), while a {@link JDA} handler gets a single one.
+	 *
+	 * @param partitions The amount of partitions, at least 1.
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setPartitions(int partitions) {
+		this.partitions = Math.max(1, partitions);
+		return this;
+	}
+
+	/**
+	 * Retrieves the maximum estimated memory active events may take, in bytes.
+	 *
+	 * @return The memory budget, or 0 if unlimited.
+	 */
+	public long getMemoryBudget() {
+		return paginator.getMemoryBudget();
+	}
+
+	/**
+	 * Set the maximum estimated memory active events may take, in bytes. Each event is weighted by the content of its
+	 * pages (see {@link Page#getWeight()}), and whenever the budget is exceeded the least recently used events are
+	 * finalized, as if they had been cancelled.
+	 *
+	 * @param memoryBudget The memory budget, or 0 for unlimited (default: 0).
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setMemoryBudget(long memoryBudget) {
+		paginator.setMemoryBudget(Math.max(0, memoryBudget));
+		return this;
+	}
+
+	/**
+	 * Retrieves how many active events are expected at once.
+	 *
+	 * @return The expected amount of events, or 0 if the default is used.
+	 */
+	public int getExpectedEvents() {
+		return paginator.getExpectedEvents();
+	}
+
+	/**
+	 * Set how many active events are expected at once. Reactions and interactions are checked against a filter of the
+	 * messages holding active events, sized for this amount, so that unrelated ones are discarded cheaply. Going past
+	 * it is allowed, but lets more unrelated reactions and interactions through to the regular lookup.
+	 *
+	 * @param expectedEvents The expected amount of events, at least 1 (default: 8192).
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setExpectedEvents(int expectedEvents) {
+		paginator.setExpectedEvents(Math.max(1, expectedEvents));
+		return this;
+	}
+
+	/**
+	 * Retrieves the maximum amount of active events per guild.
+	 *
+	 * @return The guild quota, or 0 if unlimited.
+	 */
+	public int getGuildQuota() {
+		return paginator.getGuildQuota();
+	}
+
+	/**
+	 * Set the maximum amount of active events per guild, enforced whenever a new event is created according to
+	 * {@link #setQuotaPolicy(QuotaPolicy)}. Events in private channels are not subject to this quota.
+	 *
+	 * @param guildQuota The guild quota, or 0 for unlimited (default: 0).
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setGuildQuota(int guildQuota) {
+		paginator.setGuildQuota(Math.max(0, guildQuota));
+		return this;
+	}
+
+	/**
+	 * Retrieves the maximum amount of active events per owner.
+	 *
+	 * @return The user quota, or 0 if unlimited.
+	 */
+	public int getUserQuota() {
+		return paginator.getUserQuota();
+	}
+
+	/**
+	 * Set the maximum amount of active events per owner, enforced whenever a new event is created according to
+	 * {@link #setQuotaPolicy(QuotaPolicy)}. See {@link com.github.ygimenez.model.helper.BaseHelper#setOwner} for how
+	 * owners are determined, events without an owner are not subject to this quota.
+	 *
+	 * @param userQuota The user quota, or 0 for unlimited (default: 0).
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setUserQuota(int userQuota) {
+		paginator.setUserQuota(Math.max(0, userQuota));
+		return this;
+	}
+
+	/**
+	 * Retrieves what happens when creating an event would exceed a quota.
+	 *
+	 * @return The {@link QuotaPolicy}.
+	 */
+	public QuotaPolicy getQuotaPolicy() {
+		return paginator.getQuotaPolicy();
+	}
+
+	/**
+	 * Set what happens when creating an event would exceed a quota.
+	 *
+	 * @param quotaPolicy The {@link QuotaPolicy} (default: {@link QuotaPolicy#REJECT}).
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 */
+	public PaginatorBuilder setQuotaPolicy(@NotNull QuotaPolicy quotaPolicy) {
+		paginator.setQuotaPolicy(quotaPolicy);
+		return this;
+	}
+
+	/**
+	 * Retrieves the {@link SessionStore} sharing events between nodes.
+	 *
+	 * @return The {@link SessionStore}, or null if events are only kept locally.
+	 */
+	public SessionStore getSessionStore() {
+		return paginator.getSessionStore();
+	}
+
+	/**
+	 * Set a {@link SessionStore} sharing events between nodes. Events whose helper has a session key (see
+	 * {@link BaseHelper#setSessionKey(String)}) are saved in it, and interactions targeting an event missing locally
+	 * are resolved from it, rebuilding the helper through the supplied function and resuming the event on this node.
+	 *
+	 * @param sessionStore The {@link SessionStore}, or null to only keep events locally (default: null).
+	 * @param rehydrator   Function rebuilding a helper from a stored {@link SessionRecord}, returning null if the
+	 *                     event shouldn't be resumed. The remaining timeout is applied to the returned helper.
+	 * @return The {@link PaginatorBuilder} instance for chaining convenience.
+	 * @throws IllegalArgumentException Thrown if a store is supplied without a rehydration function.
+	 */
+	public PaginatorBuilder setSessionStore(@Nullable SessionStore sessionStore, @Nullable ThrowingFunction<SessionRecord, BaseHelper<?, ?>> rehydrator) {
+		if (sessionStore != null && rehydrator == null) {
+			throw new IllegalArgumentException("A rehydration function is required to use a session store");
+		}
+
+		paginator.setSessionStore(sessionStore, rehydrator);
+		return this;
+	}
+
 	/**
 	 * Retrieve the action performed when encountering an unmapped event.
 	 *
@@ -262,6 +429,7 @@ public class PaginatorBuilder {
 		}
 
 		paginator.finishEmotes();
+		paginator.setPartitions(resolvePartitions());
 		return paginator;
 	}
 
@@ -277,6 +445,18 @@ public class PaginatorBuilder {
 		}
 
 		paginator.finishEmotes();
+		paginator.setPartitions(resolvePartitions());
 		Pages.activate(paginator);
 	}
+
+	private int resolvePartitions() {
+		if (partitions > 0) return partitions;
+
+		if (paginator.getHandler() instanceof ShardManager) {
+			int shards = ((ShardManager) paginator.getHandler()).getShardsTotal();
+			return Math.max(1, Math.min(shards, Runtime.getRuntime().availableProcessors()));
+		}
+
+		return 1;
+	}
 }
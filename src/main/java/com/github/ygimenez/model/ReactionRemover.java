@@ -0,0 +1,118 @@
+package com.github.ygimenez.model;
+
+import net.dv8tion.jda.api.entities.MessageReaction;
+import net.dv8tion.jda.api.entities.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queue of reaction removals, used when {@link PaginatorBuilder#shouldRemoveOnReact(boolean)} is enabled.<br>
+ * <br>
+ * Removals are queued per channel and submitted one at a time, each waiting for the previous to complete (including
+ * any wait imposed by the channel's reaction rate-limit bucket), so that event dispatch never waits on them and a
+ * busy channel doesn't flood the requester. Removals of the same user's reaction with the same emoji on the same
+ * message are collapsed while pending.
+ */
+public class ReactionRemover {
+	private final Paginator paginator;
+	private final Map<Long, Queue> queues = new ConcurrentHashMap<>();
+
+	private static class Queue {
+		private final LinkedHashMap<String, Removal> pending = new LinkedHashMap<>();
+		private boolean running = false;
+		private boolean closed = false;
+	}
+
+	private static class Removal {
+		private final MessageReaction reaction;
+		private final User user;
+
+		private Removal(MessageReaction reaction, User user) {
+			this.reaction = reaction;
+			this.user = user;
+		}
+	}
+
+	/**
+	 * Creates a new {@link ReactionRemover} instance.
+	 *
+	 * @param paginator The {@link Paginator} used for logging failed removals.
+	 */
+	public ReactionRemover(@NotNull Paginator paginator) {
+		this.paginator = paginator;
+	}
+
+	/**
+	 * Queues the removal of a user's reaction, returning immediately.
+	 *
+	 * @param reaction The {@link MessageReaction} to be removed.
+	 * @param user     The {@link User} whose reaction will be removed.
+	 */
+	public void remove(@NotNull MessageReaction reaction, @NotNull User user) {
+		long channelId = reaction.getChannelIdLong();
+		String key = reaction.getMessageIdLong() + "_" + reaction.getEmoji().getFormatted() + "_" + user.getIdLong();
+
+		while (true) {
+			Queue queue = queues.computeIfAbsent(channelId, k -> new Queue());
+			synchronized (queue) {
+				if (queue.closed) continue;
+
+				queue.pending.putIfAbsent(key, new Removal(reaction, user));
+				if (queue.running) return;
+				queue.running = true;
+			}
+
+			next(channelId, queue);
+			return;
+		}
+	}
+
+	/**
+	 * Retrieves the amount of removals waiting to be submitted.
+	 *
+	 * @return The amount of pending removals.
+	 */
+	public int getPending() {
+		int pending = 0;
+		for (Queue queue : queues.values()) {
+			synchronized (queue) {
+				pending += queue.pending.size();
+			}
+		}
+
+		return pending;
+	}
+
+	private void next(long channelId, Queue queue) {
+		Removal removal;
+		synchronized (queue) {
+			Iterator<Removal> it = queue.pending.values().iterator();
+			if (!it.hasNext()) {
+				queue.running = false;
+				queue.closed = true;
+				queues.remove(channelId, queue);
+				return;
+			}
+
+			removal = it.next();
+			it.remove();
+		}
+
+		try {
+			removal.reaction.removeReaction(removal.user).submit().whenComplete((v, t) -> {
+				if (t != null) {
+					paginator.log(PUtilsConfig.LogLevel.LEVEL_3, "Failed to remove reaction", t);
+				}
+
+				next(channelId, queue);
+			});
+		} catch (RuntimeException e) {
+			paginator.log(PUtilsConfig.LogLevel.LEVEL_3, "Failed to remove reaction", e);
+			next(channelId, queue);
+		}
+	}
+}
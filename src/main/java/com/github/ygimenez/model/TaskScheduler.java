@@ -1,24 +1,48 @@
 package com.github.ygimenez.model;
 
-import java.util.HashMap;
+import com.github.ygimenez.model.jfr.Trace;
+import com.github.ygimenez.model.jfr.Tracer;
+
 import java.util.Map;
 import java.util.concurrent.*;
 
 /**
- * Task manager for pagination events' expiration
+ * Task manager for pagination events' expiration.<br>
+ * <br>
+ * Tasks are split across one or more partitions, each with its own worker thread, so that timeouts (and the
+ * finalizations they trigger) of different shards don't contend for a single thread.
  */
 public class TaskScheduler {
-	private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor();
-	private final Map<String, ScheduledFuture<?>> tasks = new HashMap<>();
+	private final Partition[] partitions;
+
+	private static class Partition {
+		private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor();
+		private final Map<String, ScheduledFuture<?>> tasks = new ConcurrentHashMap<>();
+	}
 
 	/**
 	 * Default constructor.
 	 */
 	public TaskScheduler() {
+		this(1);
+	}
+
+	/**
+	 * Creates a scheduler split into the supplied amount of partitions, each with its own worker thread.
+	 *
+	 * @param partitions The amount of partitions, at least 1.
+	 */
+	public TaskScheduler(int partitions) {
+		this.partitions = new Partition[Math.max(1, partitions)];
+		for (int i = 0; i < this.partitions.length; i++) {
+			this.partitions[i] = new Partition();
+		}
 	}
 
 	/**
-	 * Schedule a new task, cancelling and replacing the previous if exists.
+	 * Schedule a new task, cancelling and replacing the previous if exists. The task runs on the partition already
+	 * holding a task with the same identifier, or on one picked from the identifier otherwise. Once started, a task is
+	 * no longer registered under its identifier, so it won't be interrupted by cancelling the identifier while running.
 	 *
 	 * @param id   The task identifier
 	 * @param task The task itself
@@ -27,12 +51,121 @@ public class TaskScheduler {
 	 * @return The task that will be executed
 	 */
 	public ScheduledFuture<?> schedule(String id, Runnable task, long time, TimeUnit unit) {
-		ScheduledFuture<?> t = worker.schedule(task, time, unit);
-		ScheduledFuture<?> prev = tasks.put(id, t);
-		if (prev != null) {
-			prev.cancel(true);
+		return schedule(getPartition(id), id, task, time, unit);
+	}
+
+	/**
+	 * Schedule a new task on the partition assigned to the supplied shard, cancelling and replacing the previous if
+	 * exists.
+	 *
+	 * @param shardId The ID of the shard the task belongs to
+	 * @param id      The task identifier
+	 * @param task    The task itself
+	 * @param time    The time for the timeout
+	 * @param unit    The unit for the timeout
+	 * @return The task that will be executed
+	 */
+	public ScheduledFuture<?> schedule(int shardId, String id, Runnable task, long time, TimeUnit unit) {
+		Partition part = partitions[Math.floorMod(shardId, partitions.length)];
+		if (partitions.length > 1) {
+			for (Partition p : partitions) {
+				if (p != part) cancel(p, id);
+			}
+		}
+
+		return schedule(part, id, task, time, unit);
+	}
+
+	private ScheduledFuture<?> schedule(Partition part, String id, Runnable task, long time, TimeUnit unit) {
+		ScheduledFuture<?>[] self = new ScheduledFuture<?>[1];
+		Runnable wrapped = () -> {
+			part.tasks.computeIfPresent(id, (k, v) -> v == self[0] ? null : v);
+			try (Trace trace = Tracer.begin(Tracer.Type.TIMEOUT)) {
+				trace.setSessionId(id);
+				task.run();
+			}
+		};
+
+		part.tasks.compute(id, (k, prev) -> {
+			if (prev != null) {
+				prev.cancel(true);
+			}
+
+			return self[0] = part.worker.schedule(wrapped, time, unit);
+		});
+
+		return self[0];
+	}
+
+	/**
+	 * Runs a task on the partition assigned to the supplied shard, after any task already due. Unlike scheduled
+	 * tasks, it has no identifier, so it can't be replaced or cancelled through {@link #cancel(String)}.
+	 *
+	 * @param shardId The ID of the shard the task belongs to
+	 * @param task    The task itself
+	 */
+	public void execute(int shardId, Runnable task) {
+		partitions[Math.floorMod(shardId, partitions.length)].worker.execute(task);
+	}
+
+	/**
+	 * Cancels the task with the supplied identifier, if any.
+	 *
+	 * @param id The task identifier
+	 * @return Whether a task was cancelled
+	 */
+	public boolean cancel(String id) {
+		for (Partition p : partitions) {
+			if (cancel(p, id)) return true;
+		}
+
+		return false;
+	}
+
+	private static boolean cancel(Partition part, String id) {
+		ScheduledFuture<?> t = part.tasks.remove(id);
+		if (t != null) {
+			return t.cancel(true);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Retrieves the amount of partitions this scheduler is split into.
+	 *
+	 * @return The amount of partitions.
+	 */
+	public int getPartitions() {
+		return partitions.length;
+	}
+
+	/**
+	 * Stops every worker thread, discarding pending tasks. The scheduler can't be used afterward.
+	 */
+	public void shutdown() {
+		for (Partition p : partitions) {
+			p.worker.shutdownNow();
+			p.tasks.clear();
+		}
+	}
+
+	/**
+	 * Checks whether this scheduler was stopped through {@link #shutdown()}.
+	 *
+	 * @return Whether this scheduler was stopped.
+	 */
+	public boolean isShutdown() {
+		return partitions[0].worker.isShutdown();
+	}
+
+	private Partition getPartition(String id) {
+		if (partitions.length == 1) return partitions[0];
+
+		for (Partition p : partitions) {
+			if (p.tasks.containsKey(id)) return p;
 		}
 
-		return t;
+		return partitions[Math.floorMod(id.hashCode(), partitions.length)];
 	}
 }
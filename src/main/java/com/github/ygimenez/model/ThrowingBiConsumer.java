@@ -1,7 +1,5 @@
 package com.github.ygimenez.model;
 
-import com.github.ygimenez.method.Pages;
-
 import java.util.function.BiConsumer;
 
 /**
@@ -31,8 +29,6 @@ public interface ThrowingBiConsumer<A, B> extends BiConsumer<A, B> {
 		try {
 			acceptThrows(a, b);
 		} catch (final Exception e) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred during consumer execution.", e);
-
 			throw new RuntimeException(e);
 		}
 	}
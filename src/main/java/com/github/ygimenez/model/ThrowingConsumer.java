@@ -1,7 +1,5 @@
 package com.github.ygimenez.model;
 
-import com.github.ygimenez.method.Pages;
-
 import java.util.function.Consumer;
 
 /**
@@ -29,8 +27,6 @@ public interface ThrowingConsumer<A> extends Consumer<A> {
 		try {
 			acceptThrows(a);
 		} catch (final Exception e) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred during consumer execution.", e);
-
 			throw new RuntimeException(e);
 		}
 	}
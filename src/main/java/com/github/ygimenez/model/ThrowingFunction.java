@@ -1,7 +1,5 @@
 package com.github.ygimenez.model;
 
-import com.github.ygimenez.method.Pages;
-
 import java.util.function.Function;
 
 /**
@@ -31,8 +29,6 @@ public interface ThrowingFunction<T, R> extends Function<T, R> {
         try {
             return applyThrows(t);
         } catch (final Exception e) {
-            Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred during function execution.", e);
-
             throw new RuntimeException(e);
         }
     }
@@ -34,8 +34,6 @@ public interface ThrowingTriConsumer<A, B, C> extends BiConsumer<A, Pair<B, C>>
 		try {
 			acceptThrows(a, p.getLeft(), p.getRight());
 		} catch (final Exception e) {
-			Pages.getPaginator().log(PUtilsConfig.LogLevel.LEVEL_1, "An error occurred during consumer execution.", e);
-
 			throw new RuntimeException(e);
 		}
 	}
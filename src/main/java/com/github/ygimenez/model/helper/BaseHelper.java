@@ -2,15 +2,20 @@ package com.github.ygimenez.model.helper;
 
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.InteractionData;
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.PageStore;
+import com.github.ygimenez.model.Paginator;
 import com.github.ygimenez.type.Action;
 import net.dv8tion.jda.api.components.Component;
 import net.dv8tion.jda.api.components.MessageTopLevelComponent;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.emoji.Emoji;
 import net.dv8tion.jda.api.utils.messages.MessageRequest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +38,10 @@ public abstract class BaseHelper<Helper extends BaseHelper<Helper, T>, T> implem
 
 	private boolean cancellable = true;
 	private long time = 0;
+	private long ownerId = 0;
+	private String sessionKey = null;
 	private Predicate<InteractionData> canInteract = null;
+	private Paginator paginator = null;
 
 	/**
 	 * Constructor for {@link BaseHelper}.
@@ -120,6 +128,63 @@ public abstract class BaseHelper<Helper extends BaseHelper<Helper, T>, T> implem
 		return subClass.cast(this);
 	}
 
+	/**
+	 * Retrieves the ID of the {@link User} owning the event.
+	 *
+	 * @return The owner's ID, or 0 if not set.
+	 */
+	public long getOwnerId() {
+		return ownerId;
+	}
+
+	/**
+	 * Set the {@link User} owning the event, allowing it to be found through
+	 * {@link com.github.ygimenez.listener.EventHandler#getUserEvents(long)}. If not set, the user who triggered the
+	 * interaction which created the {@link Message} will be used, if any.
+	 *
+	 * @param owner The {@link User} owning the event (default: null).
+	 * @return The {@link Helper} instance for chaining convenience.
+	 */
+	public Helper setOwner(@Nullable User owner) {
+		this.ownerId = owner == null ? 0 : owner.getIdLong();
+		return subClass.cast(this);
+	}
+
+	/**
+	 * Set the ID of the {@link User} owning the event, see {@link #setOwner(User)}.
+	 *
+	 * @param ownerId The ID of the user owning the event, or 0 for none (default: 0).
+	 * @return The {@link Helper} instance for chaining convenience.
+	 */
+	public Helper setOwner(long ownerId) {
+		this.ownerId = ownerId;
+		return subClass.cast(this);
+	}
+
+	/**
+	 * Retrieves the key used to rebuild this helper from a {@link com.github.ygimenez.model.store.SessionStore}.
+	 *
+	 * @return The session key, or null if the event isn't shared.
+	 */
+	@Nullable
+	public String getSessionKey() {
+		return sessionKey;
+	}
+
+	/**
+	 * Set the application-defined key used to rebuild this helper on another node, allowing the event to be saved in
+	 * the {@link com.github.ygimenez.model.store.SessionStore} configured through
+	 * {@link com.github.ygimenez.model.PaginatorBuilder#setSessionStore}. The key should hold whatever is needed to
+	 * recreate the helper's content, such as a command name and its arguments.
+	 *
+	 * @param sessionKey The session key, or null to keep the event local (default: null).
+	 * @return The {@link Helper} instance for chaining convenience.
+	 */
+	public Helper setSessionKey(@Nullable String sessionKey) {
+		this.sessionKey = sessionKey;
+		return subClass.cast(this);
+	}
+
 	/**
 	 * Checks whether the supplied {@link User} can interact with the event.
 	 *
@@ -141,6 +206,66 @@ public abstract class BaseHelper<Helper extends BaseHelper<Helper, T>, T> implem
 		return subClass.cast(this);
 	}
 
+	/**
+	 * Retrieves the {@link Paginator} engine whose emojis are used for this helper's buttons.
+	 *
+	 * @return The engine set through {@link #setPaginator(Paginator)}, or the library-wide one if none was set.
+	 */
+	public @Nullable Paginator getPaginator() {
+		return paginator != null ? paginator : Pages.getPaginator();
+	}
+
+	/**
+	 * Set the {@link Paginator} engine whose emojis are used for this helper's buttons. This is set automatically
+	 * when the helper is handed to an engine, but must be set beforehand if buttons are applied (see
+	 * {@link #apply(MessageRequest)}) for an engine other than the one set through {@link Pages#activate(Paginator)}.
+	 *
+	 * @param paginator The {@link Paginator} engine, or null to use the library-wide one (default: null).
+	 * @return The {@link Helper} instance for chaining convenience.
+	 */
+	public Helper setPaginator(@Nullable Paginator paginator) {
+		this.paginator = paginator;
+		return subClass.cast(this);
+	}
+
+	/**
+	 * Retrieves the {@link Emoji} assigned to the supplied {@link Action} by this helper's engine, or its default one
+	 * if there's none.
+	 *
+	 * @param action The {@link Action} to be searched for.
+	 * @return The {@link Emoji} representing this {@link Action}.
+	 */
+	protected Emoji getEmoji(@NotNull Action action) {
+		Paginator paginator = getPaginator();
+		return paginator != null ? paginator.getEmoji(action) : action.getEmoji();
+	}
+
+	/**
+	 * Estimates how much memory this helper takes, in bytes, based on the weight of each {@link Page} it holds. This
+	 * is used to enforce {@link com.github.ygimenez.model.PaginatorBuilder#setMemoryBudget(long)}.
+	 *
+	 * @return The estimated weight of this helper.
+	 */
+	public long getWeight() {
+		Collection<?> values;
+		if (content instanceof PageStore) {
+			return 128 + ((PageStore) content).getWeight();
+		} else if (content instanceof Map) {
+			values = ((Map<?, ?>) content).values();
+		} else if (content instanceof Collection) {
+			values = (Collection<?>) content;
+		} else {
+			return 128;
+		}
+
+		long weight = 128;
+		for (Object v : values) {
+			weight += v instanceof Page ? ((Page) v).getWeight() : 64;
+		}
+
+		return weight;
+	}
+
 	/**
 	 * Retrieves the {@link List} of {@link Component}s generated by this helper.
 	 *
@@ -154,9 +154,9 @@ public class ButtonizeHelper extends BaseHelper<ButtonizeHelper, Map<ButtonId<?>
 			}
 		}
 
-		boolean hasCancel = getContent().keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), Pages.getPaginator().getEmoji(CANCEL)));
+		boolean hasCancel = getContent().keySet().stream().anyMatch(b -> Objects.equals(b.getContent(), getEmoji(CANCEL)));
 		if (!hasCancel && isCancellable()) {
-			Button button = Button.danger(CANCEL.name(), Pages.getPaginator().getEmoji(CANCEL));
+			Button button = Button.danger(CANCEL.name(), getEmoji(CANCEL));
 
 			if (rows.size() == 5 && row.size() == 5) {
 				row.set(4, button);
@@ -180,7 +180,7 @@ public class ButtonizeHelper extends BaseHelper<ButtonizeHelper, Map<ButtonId<?>
 	public boolean shouldUpdate(Message msg) {
 		if (!isUsingButtons()) return false;
 
-		Predicate<Set<String>> checks = ids -> !isCancellable() || ids.contains(Action.getId(Pages.getPaginator().getEmoji(CANCEL)));
+		Predicate<Set<String>> checks = ids -> !isCancellable() || ids.contains(Action.getId(getEmoji(CANCEL)));
 		checks = checks.and(ids -> {
 			for (ButtonId<?> id : getContent().keySet()) {
 				if (!ids.contains(id.getId())) return false;
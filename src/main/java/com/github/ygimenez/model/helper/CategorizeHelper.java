@@ -43,6 +43,21 @@ public class CategorizeHelper extends BaseHelper<CategorizeHelper, Map<ButtonId<
 		super(CategorizeHelper.class, categories, useButtons);
 	}
 
+	/**
+	 * Creates a new categorize event helper with the supplied map, replacing each page with its canonical instance
+	 * from the supplied {@link PageInterner} so that identical pages are shared across events.
+	 *
+	 * @param categories A map containing the initial categories.
+	 * @param useButtons Whether to use interaction buttons or legacy reaction-based buttons.
+	 * @param interner   The {@link PageInterner} used to deduplicate pages.
+	 */
+	public CategorizeHelper(Map<ButtonId<?>, Page> categories, boolean useButtons, @NotNull PageInterner interner) {
+		super(CategorizeHelper.class, new LinkedHashMap<>(), useButtons);
+		for (Map.Entry<ButtonId<?>, Page> e : categories.entrySet()) {
+			getContent().put(e.getKey(), interner.intern(e.getValue()));
+		}
+	}
+
 	/**
 	 * Adds a new category to the map.
 	 *
@@ -143,7 +158,7 @@ public class CategorizeHelper extends BaseHelper<CategorizeHelper, Map<ButtonId<
 		}
 
 		if (isCancellable()) {
-			Button button = Button.danger(CANCEL.name(), Pages.getPaginator().getEmoji(CANCEL));
+			Button button = Button.danger(CANCEL.name(), getEmoji(CANCEL));
 			if (rows.size() == 5 && row.size() == 5) {
 				row.set(4, button);
 			} else if (row.size() == 5) {
@@ -168,7 +183,7 @@ public class CategorizeHelper extends BaseHelper<CategorizeHelper, Map<ButtonId<
 	public boolean shouldUpdate(Message msg) {
 		if (!isUsingButtons()) return false;
 
-		Predicate<Set<String>> checks = ids -> !isCancellable() || ids.contains(Action.getId(Pages.getPaginator().getEmoji(CANCEL)));
+		Predicate<Set<String>> checks = ids -> !isCancellable() || ids.contains(Action.getId(getEmoji(CANCEL)));
 		checks = checks.and(ids -> {
 			for (ButtonId<?> id : getContent().keySet()) {
 				if (!ids.contains(id.getId())) return false;
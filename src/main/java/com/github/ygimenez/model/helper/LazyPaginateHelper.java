@@ -4,7 +4,11 @@ import com.github.ygimenez.exception.NullPageException;
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.InteractPage;
 import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.Paginator;
 import com.github.ygimenez.model.ThrowingFunction;
+import com.github.ygimenez.model.jfr.Trace;
+import com.github.ygimenez.model.jfr.Tracer;
+import com.github.ygimenez.model.source.PageSource;
 import com.github.ygimenez.type.Action;
 import net.dv8tion.jda.api.components.MessageTopLevelComponent;
 import net.dv8tion.jda.api.components.actionrow.ActionRow;
@@ -28,6 +32,7 @@ import static com.github.ygimenez.type.Action.*;
 public class LazyPaginateHelper extends BaseHelper<LazyPaginateHelper, List<Page>> {
 	private final ThrowingFunction<Integer, Page> pageLoader;
 	private final boolean cache;
+	private boolean pageJump = false;
 
 	/**
 	 * Creates a new lazy-paginate event helper with the supplied page loader and default list implementation
@@ -57,6 +62,18 @@ public class LazyPaginateHelper extends BaseHelper<LazyPaginateHelper, List<Page
 		load(0);
 	}
 
+	/**
+	 * Creates a new lazy-paginate event helper backed by the supplied {@link PageSource}. Pages aren't cached by the
+	 * helper, as the source buffers them on its own. As sources aren't shared between events, such helpers can't be
+	 * cloned.
+	 *
+	 * @param source     The {@link PageSource} providing pages.
+	 * @param useButtons Whether to use interaction buttons or legacy reaction-based buttons.
+	 */
+	public LazyPaginateHelper(@NotNull PageSource source, boolean useButtons) {
+		this(source, null, useButtons);
+	}
+
 	/**
 	 * Adds a new page to the list.
 	 *
@@ -91,7 +108,8 @@ public class LazyPaginateHelper extends BaseHelper<LazyPaginateHelper, List<Page
 
 	/**
 	 * Loads the page represented by the specified index. Might be null, meaning there's no page available for that
-	 * index.
+	 * index. If caching, the page is stored at its index, with null slots for any skipped pages before it, which are
+	 * loaded once visited.
 	 *
 	 * @param page The page index.
 	 * @return The page returned by the loader.
@@ -105,23 +123,73 @@ public class LazyPaginateHelper extends BaseHelper<LazyPaginateHelper, List<Page
 			}
 		}
 
-		Page p = pageLoader.apply(page);
+		Page p;
+		try (Trace trace = Tracer.begin(Tracer.Type.PAGE_LOAD)) {
+			trace.setHelper(this);
+			p = pageLoader.apply(page);
+		}
+
 		if (cache) getContent().set(page, p);
 		return p;
 	}
 
+	/**
+	 * Closes the {@link PageSource} backing this helper, if any, releasing the resources it holds. Called once the
+	 * event using this helper ends.
+	 */
+	public void close() {
+		if (pageLoader instanceof PageSource) {
+			((PageSource) pageLoader).close();
+		}
+	}
+
+	/**
+	 * Retrieves whether the page represented by the specified index is known to be the last one, which is only the
+	 * case for helpers backed by a {@link PageSource} that reached its end (see {@link PageSource#isLast(int)}).
+	 *
+	 * @param page The page index.
+	 * @return Whether there are no pages after the specified index.
+	 */
+	public boolean isLastPage(int page) {
+		return pageLoader instanceof PageSource && ((PageSource) pageLoader).isLast(page);
+	}
+
+	/**
+	 * Retrieves whether this helper is configured to include a {@link Action#GOTO_PAGE} button.
+	 *
+	 * @return Whether to include the go-to-page button.
+	 */
+	public boolean isPageJump() {
+		return pageJump;
+	}
+
+	/**
+	 * Set whether to include a {@link Action#GOTO_PAGE} button, which opens a modal for typing the desired page
+	 * number. The page is requested directly from the loader, so a jump costs a single load. Only used with
+	 * interaction buttons.
+	 *
+	 * @param pageJump Whether to include the go-to-page button (default: false).
+	 * @return The {@link LazyPaginateHelper} instance for chaining convenience.
+	 */
+	public LazyPaginateHelper setPageJump(boolean pageJump) {
+		this.pageJump = pageJump;
+		return this;
+	}
+
 	@Override
 	public <Out extends MessageRequest<Out>> List<MessageTopLevelComponent> getComponents(Out action) {
 		if (!isUsingButtons()) return List.of();
 
 		InteractPage p = (InteractPage) load(0);
+		Paginator paginator = getPaginator();
 		if (p == null) throw new NullPageException();
 
 		return List.of(
 				ActionRow.of(new ArrayList<>() {{
-					add(p.makeButton(PREVIOUS).asDisabled());
-					if (isCancellable()) add(p.makeButton(CANCEL));
-					add(p.makeButton(NEXT));
+					add(p.makeButton(paginator, PREVIOUS).asDisabled());
+					if (isCancellable()) add(p.makeButton(paginator, CANCEL));
+					add(p.makeButton(paginator, NEXT).withDisabled(isLastPage(0)));
+					if (pageJump) add(p.makeButton(paginator, GOTO_PAGE));
 				}})
 		);
 	}
@@ -143,8 +211,15 @@ public class LazyPaginateHelper extends BaseHelper<LazyPaginateHelper, List<Page
 		return !checks.test(actions);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalStateException If this helper is backed by a {@link PageSource}.
+	 */
 	@Override
 	public LazyPaginateHelper clone() {
+		if (pageLoader instanceof PageSource) throw new IllegalStateException();
+
 		return new LazyPaginateHelper(pageLoader, cache ? new ArrayList<>(getContent()) : null, isUsingButtons());
 	}
 }
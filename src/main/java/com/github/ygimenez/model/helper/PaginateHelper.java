@@ -3,6 +3,10 @@ package com.github.ygimenez.model.helper;
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.InteractPage;
 import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.PageIndex;
+import com.github.ygimenez.model.PageInterner;
+import com.github.ygimenez.model.PageStore;
+import com.github.ygimenez.model.Paginator;
 import com.github.ygimenez.type.Action;
 import net.dv8tion.jda.api.components.MessageTopLevelComponent;
 import net.dv8tion.jda.api.components.actionrow.ActionRow;
@@ -26,6 +30,10 @@ import static com.github.ygimenez.type.Action.*;
 public class PaginateHelper extends BaseHelper<PaginateHelper, List<Page>> {
 	private int skipAmount = 0;
 	private boolean fastForward = false;
+	private boolean pageJump = false;
+	private boolean searchable = false;
+	private PageInterner interner;
+	private PageIndex index;
 
 	/**
 	 * Creates a new paginate event helper with the default list implementation ({@link ArrayList}).
@@ -47,13 +55,31 @@ public class PaginateHelper extends BaseHelper<PaginateHelper, List<Page>> {
 	}
 
 	/**
-	 * Adds a new page to the list.
+	 * Creates a new paginate event helper with the supplied list, replacing each page with its canonical instance
+	 * from the supplied {@link PageInterner} so that identical pages are shared across events.
+	 *
+	 * @param pages      A list containing the initial pages.
+	 * @param useButtons Whether to use interaction buttons or legacy reaction-based buttons.
+	 * @param interner   The {@link PageInterner} used to deduplicate pages.
+	 */
+	public PaginateHelper(@NotNull List<Page> pages, boolean useButtons, @NotNull PageInterner interner) {
+		super(PaginateHelper.class, new ArrayList<>(pages.size()), useButtons);
+		this.interner = interner;
+		for (Page p : pages) {
+			getContent().add(interner.intern(p));
+		}
+	}
+
+	/**
+	 * Adds a new page to the list, replacing it with its canonical instance if the helper was created with a
+	 * {@link PageInterner}.
 	 *
 	 * @param page The page to be added.
 	 * @return The {@link ButtonizeHelper} instance for chaining convenience.
 	 */
-	public PaginateHelper addPage(@NotNull Page page) {
-		getContent().add(page);
+	public synchronized PaginateHelper addPage(@NotNull Page page) {
+		index = null;
+		getContent().add(interner != null ? interner.intern(page) : page);
 		return this;
 	}
 
@@ -62,7 +88,8 @@ public class PaginateHelper extends BaseHelper<PaginateHelper, List<Page>> {
 	 *
 	 * @return The {@link PaginateHelper} instance for chaining convenience.
 	 */
-	public PaginateHelper clearPages() {
+	public synchronized PaginateHelper clearPages() {
+		index = null;
 		getContent().clear();
 		return this;
 	}
@@ -110,41 +137,115 @@ public class PaginateHelper extends BaseHelper<PaginateHelper, List<Page>> {
 		return this;
 	}
 
+	/**
+	 * Retrieves whether this helper is configured to include a {@link Action#GOTO_PAGE} button.
+	 *
+	 * @return Whether to include the go-to-page button.
+	 */
+	public boolean isPageJump() {
+		return pageJump;
+	}
+
+	/**
+	 * Set whether to include a {@link Action#GOTO_PAGE} button, which opens a modal for typing the desired page
+	 * number. Only used with interaction buttons.
+	 *
+	 * @param pageJump Whether to include the go-to-page button (default: false).
+	 * @return The {@link PaginateHelper} instance for chaining convenience.
+	 */
+	public PaginateHelper setPageJump(boolean pageJump) {
+		this.pageJump = pageJump;
+		return this;
+	}
+
+	/**
+	 * Retrieves whether this helper is configured to include a {@link Action#SEARCH} button.
+	 *
+	 * @return Whether to include the search button.
+	 */
+	public boolean isSearchable() {
+		return searchable;
+	}
+
+	/**
+	 * Set whether to include a {@link Action#SEARCH} button, which opens a modal for typing a query and goes to the
+	 * first page matching it. Submitting the same query again goes to the next match. Pages are searched through a
+	 * {@link PageIndex} built in the background once the pagination starts, and searches submitted before it's ready
+	 * are applied as soon as it is. Queries matching no page are answered with an ephemeral message. Only used with
+	 * interaction buttons.
+	 *
+	 * @param searchable Whether to include the search button (default: false).
+	 * @return The {@link PaginateHelper} instance for chaining convenience.
+	 */
+	public PaginateHelper setSearchable(boolean searchable) {
+		this.searchable = searchable;
+		return this;
+	}
+
+	/**
+	 * Retrieves the {@link PageIndex} used for searching through this helper's pages, creating it if needed. The index
+	 * is recreated after pages are added or cleared. If the pages were interned, the index is shared with every helper
+	 * holding the same pages (see {@link PageInterner#getIndex(List)}).
+	 *
+	 * @return The {@link PageIndex} for this helper's pages.
+	 */
+	public synchronized PageIndex getIndex() {
+		if (index == null) {
+			index = interner != null ? interner.getIndex(getContent()) : new PageIndex(getContent());
+		}
+
+		return index;
+	}
+
 	@Override
 	public <Out extends MessageRequest<Out>> List<MessageTopLevelComponent> getComponents(Out action) {
 		if (!isUsingButtons()) return List.of();
 
 		InteractPage p = (InteractPage) getContent().get(0);
+		Paginator paginator = getPaginator();
 
 		List<MessageTopLevelComponent> rows = new ArrayList<>();
 
 		LinkedList<ActionRowChildComponent> row = new LinkedList<>() {{
-			add(p.makeButton(PREVIOUS).asDisabled());
-			if (isCancellable()) add(p.makeButton(CANCEL));
-			add(p.makeButton(NEXT));
+			add(p.makeButton(paginator, PREVIOUS).asDisabled());
+			if (isCancellable()) add(p.makeButton(paginator, CANCEL));
+			add(p.makeButton(paginator, NEXT));
 		}};
 		if (skipAmount > 1 && fastForward) {
-			row.addFirst(p.makeButton(NONE));
-			row.addLast(p.makeButton(NONE));
+			row.addFirst(p.makeButton(paginator, NONE));
+			row.addLast(p.makeButton(paginator, NONE));
 		} else if (skipAmount > 1) {
-			row.addFirst(p.makeButton(SKIP_BACKWARD).asDisabled());
-			row.addLast(p.makeButton(SKIP_FORWARD));
+			row.addFirst(p.makeButton(paginator, SKIP_BACKWARD).asDisabled());
+			row.addLast(p.makeButton(paginator, SKIP_FORWARD));
 		} else if (fastForward) {
-			row.addFirst(p.makeButton(GOTO_FIRST).asDisabled());
-			row.addLast(p.makeButton(GOTO_LAST));
+			row.addFirst(p.makeButton(paginator, GOTO_FIRST).asDisabled());
+			row.addLast(p.makeButton(paginator, GOTO_LAST));
 		}
-		rows.add(ActionRow.of(row));
+		List<ActionRowChildComponent> last = row;
 
 		if (skipAmount > 1 && fastForward) {
-			rows.add(ActionRow.of(new ArrayList<>() {{
-				add(p.makeButton(GOTO_FIRST).asDisabled());
-				add(p.makeButton(SKIP_BACKWARD).asDisabled());
-				if (isCancellable()) add(p.makeButton(NONE));
-				add(p.makeButton(SKIP_FORWARD));
-				add(p.makeButton(GOTO_LAST));
-			}}));
+			last = new ArrayList<>() {{
+				add(p.makeButton(paginator, GOTO_FIRST).asDisabled());
+				add(p.makeButton(paginator, SKIP_BACKWARD).asDisabled());
+				if (isCancellable()) add(p.makeButton(paginator, NONE));
+				add(p.makeButton(paginator, SKIP_FORWARD));
+				add(p.makeButton(paginator, GOTO_LAST));
+			}};
 		}
 
+		List<ActionRowChildComponent> extra = new ArrayList<>();
+		if (pageJump) extra.add(p.makeButton(paginator, GOTO_PAGE));
+		if (searchable) extra.add(p.makeButton(paginator, SEARCH));
+
+		if (last.size() + extra.size() <= 5) {
+			last.addAll(extra);
+			extra.clear();
+		}
+
+		rows.add(ActionRow.of(row));
+		if (last != row) rows.add(ActionRow.of(last));
+		if (!extra.isEmpty()) rows.add(ActionRow.of(extra));
+
 		return rows;
 	}
 
@@ -173,6 +274,7 @@ public class PaginateHelper extends BaseHelper<PaginateHelper, List<Page>> {
 
 	@Override
 	public PaginateHelper clone() {
-		return new PaginateHelper(new ArrayList<>(getContent()), isUsingButtons());
+		List<Page> pages = getContent() instanceof PageStore ? getContent() : new ArrayList<>(getContent());
+		return new PaginateHelper(pages, isUsingButtons());
 	}
 }
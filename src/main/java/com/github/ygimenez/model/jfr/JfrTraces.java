@@ -0,0 +1,70 @@
+package com.github.ygimenez.model.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Factory for JFR-backed {@link Trace}s. Kept apart from {@link Tracer} so that the {@code jdk.jfr} module is only
+ * touched on runtimes which provide it.
+ */
+abstract class JfrTraces {
+	private JfrTraces() {
+	}
+
+	static Trace begin(Tracer.Type type) {
+		PaginationEvent evt;
+		switch (type) {
+			case DISPATCH:
+				evt = new Dispatch();
+				break;
+			case PAGE_LOAD:
+				evt = new PageLoad();
+				break;
+			case MODIFY_BUTTONS:
+				evt = new ModifyButtons();
+				break;
+			case FINALIZE:
+				evt = new Finalize();
+				break;
+			case TIMEOUT:
+				evt = new Timeout();
+				break;
+			default:
+				return Trace.NONE;
+		}
+
+		if (!evt.isEnabled()) return Trace.NONE;
+		return evt.start(type.isScoped());
+	}
+
+	@Name("com.github.ygimenez.Dispatch")
+	@Label("Event Dispatch")
+	@Description("Processing of a button or reaction by a pagination event")
+	static class Dispatch extends PaginationEvent {
+	}
+
+	@Name("com.github.ygimenez.PageLoad")
+	@Label("Page Load")
+	@Description("Invocation of a lazy page loader")
+	static class PageLoad extends PaginationEvent {
+	}
+
+	@Name("com.github.ygimenez.ModifyButtons")
+	@Label("Modify Buttons")
+	@Description("Message edit issued when switching pages or updating buttons, until Discord replies")
+	static class ModifyButtons extends PaginationEvent {
+	}
+
+	@Name("com.github.ygimenez.Finalize")
+	@Label("Finalize Event")
+	@Description("Removal of buttons and reactions when a pagination event ends")
+	static class Finalize extends PaginationEvent {
+	}
+
+	@Name("com.github.ygimenez.Timeout")
+	@Label("Event Timeout")
+	@Description("Execution of a scheduled pagination timeout")
+	static class Timeout extends PaginationEvent {
+	}
+}
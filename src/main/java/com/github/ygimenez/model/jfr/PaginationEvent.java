@@ -0,0 +1,93 @@
+package com.github.ygimenez.model.jfr;
+
+import com.github.ygimenez.model.helper.BaseHelper;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base class for the JDK Flight Recorder events emitted by the library. Only loaded when the runtime supports JFR.
+ */
+@Category("Pagination Utils")
+@StackTrace(false)
+abstract class PaginationEvent extends Event implements Trace {
+	private static final ThreadLocal<PaginationEvent> SCOPE = new ThreadLocal<>();
+
+	@Label("Session ID")
+	String sessionId;
+
+	@Label("Action")
+	String action;
+
+	@Label("Helper Type")
+	String helperType;
+
+	private transient PaginationEvent parent;
+	private transient boolean scoped;
+
+	/**
+	 * Starts timing this event. Scoped events become the parent of every event started on the same thread until
+	 * they're closed, while unscoped events inherit their attributes from the current parent, if any.
+	 *
+	 * @param scoped Whether this event opens a new scope.
+	 * @return This event, for chaining convenience.
+	 */
+	PaginationEvent start(boolean scoped) {
+		PaginationEvent current = SCOPE.get();
+		if (current != null) {
+			sessionId = current.sessionId;
+			action = current.action;
+			helperType = current.helperType;
+		}
+
+		if (scoped) {
+			this.parent = current;
+			this.scoped = true;
+			SCOPE.set(this);
+		}
+
+		begin();
+		return this;
+	}
+
+	@Override
+	public boolean isRecording() {
+		return true;
+	}
+
+	@Override
+	public Trace setSessionId(@Nullable String sessionId) {
+		this.sessionId = sessionId;
+		return this;
+	}
+
+	@Override
+	public Trace setAction(@Nullable String action) {
+		this.action = action;
+		return this;
+	}
+
+	@Override
+	public Trace setHelper(@Nullable BaseHelper<?, ?> helper) {
+		this.helperType = helper == null ? null : helper.getClass().getSimpleName();
+		return this;
+	}
+
+	@Override
+	public void close() {
+		if (scoped) {
+			if (parent == null) {
+				SCOPE.remove();
+			} else {
+				SCOPE.set(parent);
+			}
+
+			scoped = false;
+		}
+
+		end();
+		if (shouldCommit()) commit();
+	}
+}
@@ -0,0 +1,78 @@
+package com.github.ygimenez.model.jfr;
+
+import com.github.ygimenez.model.helper.BaseHelper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Handle for a single measured operation started through {@link Tracer#begin(Tracer.Type)}. Instances are either backed by a
+ * JDK Flight Recorder event or by a no-op implementation, should the runtime lack JFR support.
+ */
+public interface Trace extends AutoCloseable {
+	/**
+	 * A {@link Trace} which records nothing.
+	 */
+	Trace NONE = new Trace() {
+		@Override
+		public boolean isRecording() {
+			return false;
+		}
+
+		@Override
+		public Trace setSessionId(@Nullable String sessionId) {
+			return this;
+		}
+
+		@Override
+		public Trace setAction(@Nullable String action) {
+			return this;
+		}
+
+		@Override
+		public Trace setHelper(@Nullable BaseHelper<?, ?> helper) {
+			return this;
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	/**
+	 * Retrieves whether this {@link Trace} will actually be recorded. Useful for skipping the computation of
+	 * expensive attributes.
+	 *
+	 * @return Whether this {@link Trace} is being recorded.
+	 */
+	boolean isRecording();
+
+	/**
+	 * Set the ID of the pagination event being traced.
+	 *
+	 * @param sessionId The event ID.
+	 * @return The {@link Trace} instance for chaining convenience.
+	 */
+	Trace setSessionId(@Nullable String sessionId);
+
+	/**
+	 * Set the action which triggered the operation being traced.
+	 *
+	 * @param action The action name, usually an {@link com.github.ygimenez.type.Action} or a button ID.
+	 * @return The {@link Trace} instance for chaining convenience.
+	 */
+	Trace setAction(@Nullable String action);
+
+	/**
+	 * Set the helper owning the operation being traced.
+	 *
+	 * @param helper The {@link BaseHelper} instance.
+	 * @return The {@link Trace} instance for chaining convenience.
+	 */
+	Trace setHelper(@Nullable BaseHelper<?, ?> helper);
+
+	/**
+	 * Finishes this {@link Trace}, committing it if it is being recorded. May be called from a different thread
+	 * than the one which started it.
+	 */
+	@Override
+	void close();
+}
@@ -0,0 +1,69 @@
+package com.github.ygimenez.model.jfr;
+
+/**
+ * Entry point for the library's JDK Flight Recorder instrumentation. Events are registered under the
+ * "Pagination Utils" category and can be enabled through any JFR configuration, such as:
+ * <pre>{@code java -XX:StartFlightRecording:settings=profile ...}</pre>
+ * On runtimes without JFR support, or while the events are disabled, every operation returns {@link Trace#NONE}.
+ */
+public abstract class Tracer {
+	private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	private Tracer() {
+	}
+
+	/**
+	 * Types of operations traced by the library.
+	 */
+	public enum Type {
+		/**
+		 * Processing of an incoming button or reaction by a pagination event.
+		 */
+		DISPATCH(true),
+		/**
+		 * Invocation of a lazy page loader.
+		 */
+		PAGE_LOAD(false),
+		/**
+		 * Message edit issued when switching pages or updating buttons.
+		 */
+		MODIFY_BUTTONS(false),
+		/**
+		 * Finalization of a pagination event.
+		 */
+		FINALIZE(false),
+		/**
+		 * Execution of a scheduled pagination timeout.
+		 */
+		TIMEOUT(true);
+
+		private final boolean scoped;
+
+		Type(boolean scoped) {
+			this.scoped = scoped;
+		}
+
+		/**
+		 * Retrieves whether traces of this type propagate their attributes to traces started within them on the
+		 * same thread.
+		 *
+		 * @return Whether this type opens a new scope.
+		 */
+		public boolean isScoped() {
+			return scoped;
+		}
+	}
+
+	/**
+	 * Starts a new {@link Trace} of the supplied type. The returned {@link Trace} must always be closed, preferably
+	 * through a try-with-resources block.
+	 *
+	 * @param type The {@link Type} of operation being traced.
+	 * @return The started {@link Trace}, or {@link Trace#NONE} if JFR is either unavailable or not recording it.
+	 */
+	public static Trace begin(Type type) {
+		if (!AVAILABLE) return Trace.NONE;
+
+		return JfrTraces.begin(type);
+	}
+}
@@ -0,0 +1,266 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.InteractPage;
+import com.github.ygimenez.model.Page;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link PageSource} splitting a large text or list of rows into pages fitting Discord's limits, so that the content
+ * doesn't need to be split (and every page built) up front.<br>
+ * <br>
+ * Page boundaries are found as pages are requested, and kept in a compact index of offsets so each boundary is only
+ * computed once. Pages themselves are rendered on demand and not kept. Text is preferably split at line breaks, then
+ * at whitespace (as long as the page stays at least half full), while rows are never split unless a single row exceeds
+ * the limit by itself, in which case it gets truncated.
+ */
+public class ChunkedPageSource extends PageSource {
+	private final int size;
+	private final Chunker chunker;
+	private final Renderer renderer;
+	private int[] offsets = new int[16];
+	private int known = 1;
+	private boolean complete = false;
+
+	private interface Chunker {
+		int next(int start);
+	}
+
+	private interface Renderer {
+		Page render(int start, int end);
+	}
+
+	private ChunkedPageSource(int size, Chunker chunker, Renderer renderer) {
+		this.size = size;
+		this.chunker = chunker;
+		this.renderer = renderer;
+		this.complete = size == 0;
+	}
+
+	/**
+	 * Creates a source splitting the supplied text into message contents of up to {@link Message#MAX_CONTENT_LENGTH}
+	 * characters.
+	 *
+	 * @param text The text to be split.
+	 * @return A new {@link ChunkedPageSource}.
+	 */
+	public static ChunkedPageSource ofText(@NotNull CharSequence text) {
+		return new ChunkedPageSource(
+				text.length(),
+				start -> splitText(text, start, Message.MAX_CONTENT_LENGTH),
+				(start, end) -> InteractPage.of(text.subSequence(start, end).toString())
+		);
+	}
+
+	/**
+	 * Creates a source splitting the supplied text into embed descriptions, each embed being a copy of the supplied
+	 * template. Descriptions are kept within both {@link MessageEmbed#DESCRIPTION_MAX_LENGTH} and the total embed
+	 * length limit, taking the template's length into account.
+	 *
+	 * @param text     The text to be split.
+	 * @param template The {@link MessageEmbed} used as base for every page.
+	 * @return A new {@link ChunkedPageSource}.
+	 */
+	public static ChunkedPageSource ofText(@NotNull CharSequence text, @NotNull MessageEmbed template) {
+		int limit = getDescriptionLimit(template);
+		return new ChunkedPageSource(
+				text.length(),
+				start -> splitText(text, start, limit),
+				(start, end) -> InteractPage.of(new EmbedBuilder(template)
+						.setDescription(text.subSequence(start, end))
+						.build()
+				)
+		);
+	}
+
+	/**
+	 * Creates a source listing the supplied rows in message contents of up to {@link Message#MAX_CONTENT_LENGTH}
+	 * characters, one row per line.
+	 *
+	 * @param rows      The rows to be listed.
+	 * @param formatter Function turning a row into its line.
+	 * @param <T>       The type of the rows.
+	 * @return A new {@link ChunkedPageSource}.
+	 */
+	public static <T> ChunkedPageSource ofRows(@NotNull List<T> rows, @NotNull Function<? super T, String> formatter) {
+		return new ChunkedPageSource(
+				rows.size(),
+				start -> splitRows(rows, formatter, start, Message.MAX_CONTENT_LENGTH),
+				(start, end) -> InteractPage.of(joinRows(rows, formatter, start, end, Message.MAX_CONTENT_LENGTH))
+		);
+	}
+
+	/**
+	 * Creates a source listing the supplied rows in embed descriptions, one row per line, each embed being a copy of
+	 * the supplied template. See {@link #ofText(CharSequence, MessageEmbed)} for the limits applied.
+	 *
+	 * @param rows      The rows to be listed.
+	 * @param formatter Function turning a row into its line.
+	 * @param template  The {@link MessageEmbed} used as base for every page.
+	 * @param <T>       The type of the rows.
+	 * @return A new {@link ChunkedPageSource}.
+	 */
+	public static <T> ChunkedPageSource ofRows(@NotNull List<T> rows, @NotNull Function<? super T, String> formatter, @NotNull MessageEmbed template) {
+		int limit = getDescriptionLimit(template);
+		return new ChunkedPageSource(
+				rows.size(),
+				start -> splitRows(rows, formatter, start, limit),
+				(start, end) -> InteractPage.of(new EmbedBuilder(template)
+						.setDescription(joinRows(rows, formatter, start, end, limit))
+						.build()
+				)
+		);
+	}
+
+	/**
+	 * Creates a source listing the supplied rows as embed fields, each embed being a copy of the supplied template.
+	 * Embeds are kept within {@link MessageEmbed#MAX_FIELD_AMOUNT} fields (minus the template's own) and the total
+	 * embed length limit.
+	 *
+	 * @param rows      The rows to be listed.
+	 * @param formatter Function turning a row into its field.
+	 * @param template  The {@link MessageEmbed} used as base for every page.
+	 * @param <T>       The type of the rows.
+	 * @return A new {@link ChunkedPageSource}.
+	 */
+	public static <T> ChunkedPageSource ofFields(@NotNull List<T> rows, @NotNull Function<? super T, MessageEmbed.Field> formatter, @NotNull MessageEmbed template) {
+		int maxFields = Math.max(1, MessageEmbed.MAX_FIELD_AMOUNT - template.getFields().size());
+		int limit = MessageEmbed.EMBED_MAX_LENGTH_BOT - template.getLength();
+		return new ChunkedPageSource(
+				rows.size(),
+				start -> {
+					int length = 0;
+					int end = start;
+					while (end < rows.size() && end - start < maxFields) {
+						MessageEmbed.Field f = formatter.apply(rows.get(end));
+						int next = length + length(f.getName()) + length(f.getValue());
+						if (next > limit && end > start) break;
+
+						length = next;
+						end++;
+					}
+
+					return end;
+				},
+				(start, end) -> {
+					EmbedBuilder eb = new EmbedBuilder(template);
+					for (int i = start; i < end; i++) {
+						eb.addField(formatter.apply(rows.get(i)));
+					}
+
+					return InteractPage.of(eb.build());
+				}
+		);
+	}
+
+	/**
+	 * Retrieves the amount of pages, computing every remaining boundary if needed.
+	 *
+	 * @return The amount of pages.
+	 */
+	public synchronized int getPageCount() {
+		while (!complete) {
+			advance();
+		}
+
+		return known - 1;
+	}
+
+	@Nullable
+	@Override
+	public synchronized Page get(int index) {
+		if (index < 0) return null;
+
+		while (!complete && known <= index + 1) {
+			advance();
+		}
+
+		if (index + 1 >= known) return null;
+		return renderer.render(offsets[index], offsets[index + 1]);
+	}
+
+	private void advance() {
+		int start = offsets[known - 1];
+		int end = chunker.next(start);
+		if (end <= start) end = start + 1;
+
+		if (known == offsets.length) {
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+		}
+
+		offsets[known++] = Math.min(end, size);
+		if (end >= size) {
+			complete = true;
+		}
+	}
+
+	private static int getDescriptionLimit(MessageEmbed template) {
+		return Math.max(1, Math.min(MessageEmbed.DESCRIPTION_MAX_LENGTH, MessageEmbed.EMBED_MAX_LENGTH_BOT - template.getLength() + length(template.getDescription())));
+	}
+
+	private static int length(@Nullable String str) {
+		return str == null ? 0 : str.length();
+	}
+
+	private static int splitText(CharSequence text, int start, int limit) {
+		int end = start + limit;
+		if (end >= text.length()) return text.length();
+
+		int min = start + limit / 2;
+		for (int i = end - 1; i > min; i--) {
+			if (text.charAt(i) == '\n') return i + 1;
+		}
+
+		for (int i = end - 1; i > min; i--) {
+			if (Character.isWhitespace(text.charAt(i))) return i + 1;
+		}
+
+		if (Character.isLowSurrogate(text.charAt(end)) && end - 1 > start) {
+			end--;
+		}
+
+		return end;
+	}
+
+	private static <T> int splitRows(List<T> rows, Function<? super T, String> formatter, int start, int limit) {
+		int length = -1;
+		int end = start;
+		while (end < rows.size()) {
+			int next = length + formatter.apply(rows.get(end)).length() + 1;
+			if (next > limit && end > start) break;
+
+			length = next;
+			end++;
+			if (length >= limit) break;
+		}
+
+		return end;
+	}
+
+	private static <T> String joinRows(List<T> rows, Function<? super T, String> formatter, int start, int end, int limit) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = start; i < end; i++) {
+			if (i > start) sb.append('\n');
+			sb.append(formatter.apply(rows.get(i)));
+		}
+
+		if (sb.length() > limit) {
+			int cut = limit - 1;
+			if (Character.isLowSurrogate(sb.charAt(cut)) && cut > 0) {
+				cut--;
+			}
+
+			sb.setLength(cut);
+			sb.append('\u2026');
+		}
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,74 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.Page;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Page returned by a {@link CursorPageSource} loader, along with the cursor pointing to the page after it.
+ *
+ * @param <C> The type of the cursor.
+ */
+public class CursorPage<C> {
+	private final Page page;
+	private final C next;
+	private final boolean last;
+
+	private CursorPage(Page page, C next, boolean last) {
+		this.page = page;
+		this.next = next;
+		this.last = last;
+	}
+
+	/**
+	 * Creates a new {@link CursorPage} followed by another page.
+	 *
+	 * @param page The loaded {@link Page}.
+	 * @param next The cursor to be supplied to the loader for retrieving the next page (such as the key of the
+	 *             page's last row).
+	 * @param <C>  The type of the cursor.
+	 * @return A new {@link CursorPage} instance.
+	 */
+	public static <C> CursorPage<C> of(@NotNull Page page, @Nullable C next) {
+		return new CursorPage<>(page, next, false);
+	}
+
+	/**
+	 * Creates a new {@link CursorPage} marking the end of the pagination.
+	 *
+	 * @param page The loaded {@link Page}.
+	 * @param <C>  The type of the cursor.
+	 * @return A new {@link CursorPage} instance.
+	 */
+	public static <C> CursorPage<C> last(@NotNull Page page) {
+		return new CursorPage<>(page, null, true);
+	}
+
+	/**
+	 * Retrieves the loaded {@link Page}.
+	 *
+	 * @return The loaded page.
+	 */
+	public Page getPage() {
+		return page;
+	}
+
+	/**
+	 * Retrieves the cursor pointing to the next page.
+	 *
+	 * @return The cursor for the next page.
+	 */
+	@Nullable
+	public C getNext() {
+		return next;
+	}
+
+	/**
+	 * Retrieves whether this is the last page.
+	 *
+	 * @return Whether there are no pages after this one.
+	 */
+	public boolean isLast() {
+		return last;
+	}
+}
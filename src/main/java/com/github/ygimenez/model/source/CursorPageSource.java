@@ -0,0 +1,120 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.ThrowingFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link PageSource} for keyset (or cursor-based) pagination, where each page is loaded from an opaque cursor handed
+ * out by the previous page instead of an offset. This keeps deep pages as cheap to load as the first one for sources
+ * such as databases, where {@code OFFSET n} gets slower the further it goes.<br>
+ * <br>
+ * The cursor each visited page was loaded from is recorded, so going back (or jumping, see
+ * {@link com.github.ygimenez.type.Action#GOTO_PAGE}) to a visited page is a single load from its known cursor, while
+ * jumping past them walks from the furthest known cursor. The end of the pagination is known as soon as the last page
+ * is loaded, and the first page is kept in memory.
+ * <br><br>
+ * Example:
+ * <pre>{@code
+ * new CursorPageSource<Long>(afterId -> {
+ *     List<Row> rows = repository.findAfter(afterId == null ? 0 : afterId, 20); // WHERE id > ? ORDER BY id LIMIT ?
+ *     Page page = InteractPage.of(format(rows));
+ *
+ *     return rows.size() < 20 ? CursorPage.last(page) : CursorPage.of(page, rows.get(rows.size() - 1).getId());
+ * });
+ * }</pre>
+ *
+ * @param <C> The type of the cursor.
+ */
+public class CursorPageSource<C> extends PageSource {
+	private final ThrowingFunction<C, CursorPage<C>> loader;
+	private final List<C> cursors = new ArrayList<>();
+	private CursorPage<C> first = null;
+	private int end = -1;
+
+	/**
+	 * Creates a new {@link CursorPageSource}, starting from a null cursor.
+	 *
+	 * @param loader The loader used to load pages. The value supplied is the cursor returned by the previous page,
+	 *               or null for the first page. Returning null means there's no page for that cursor.
+	 */
+	public CursorPageSource(@NotNull ThrowingFunction<C, CursorPage<C>> loader) {
+		this(loader, null);
+	}
+
+	/**
+	 * Creates a new {@link CursorPageSource}, starting from the supplied cursor.
+	 *
+	 * @param loader The loader used to load pages. The value supplied is the cursor returned by the previous page,
+	 *               or the initial cursor for the first page. Returning null means there's no page for that cursor.
+	 * @param initial The cursor used to load the first page.
+	 */
+	public CursorPageSource(@NotNull ThrowingFunction<C, CursorPage<C>> loader, @Nullable C initial) {
+		this.loader = loader;
+		this.cursors.add(initial);
+	}
+
+	/**
+	 * Retrieves how many page cursors are known so far, which is the amount of pages reachable without loading the
+	 * ones before them.
+	 *
+	 * @return The amount of known cursors.
+	 */
+	public synchronized int getKnown() {
+		return cursors.size();
+	}
+
+	@Nullable
+	@Override
+	public synchronized Page get(int index) {
+		if (index < 0 || (end >= 0 && index > end)) return null;
+
+		int i = Math.min(index, cursors.size() - 1);
+		while (true) {
+			CursorPage<C> page = load(i);
+			if (page == null) {
+				end = i - 1;
+				return null;
+			}
+
+			if (page.isLast()) {
+				end = i;
+			} else if (i + 1 == cursors.size()) {
+				cursors.add(page.getNext());
+			}
+
+			if (i == index) return page.getPage();
+			else if (page.isLast()) return null;
+
+			i++;
+		}
+	}
+
+	@Override
+	public synchronized boolean isLast(int index) {
+		return end >= 0 && index >= end;
+	}
+
+	/**
+	 * Forgets the first page and every known cursor after the initial one, so pages are loaded again.
+	 */
+	@Override
+	public synchronized void close() {
+		cursors.subList(1, cursors.size()).clear();
+		first = null;
+		end = -1;
+	}
+
+	private CursorPage<C> load(int index) {
+		if (index == 0 && first != null) return first;
+
+		CursorPage<C> page = loader.apply(cursors.get(index));
+		if (index == 0) first = page;
+
+		return page;
+	}
+}
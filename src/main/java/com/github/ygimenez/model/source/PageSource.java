@@ -0,0 +1,103 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.Page;
+import com.github.ygimenez.model.ThrowingFunction;
+import com.github.ygimenez.model.helper.LazyPaginateHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Source of pages for {@link LazyPaginateHelper}, generating or buffering pages on its own instead of relying on the
+ * helper's cache. Pages are requested by index, as done by page loaders. A source is usually tied to a single
+ * cursor, so it shouldn't be shared by multiple events.
+ * <br><br>
+ * Example:
+ * <pre>{@code Pages.lazyPaginate(msg, new LazyPaginateHelper(PageSource.of(repository.streamRows()), true));}</pre>
+ */
+public abstract class PageSource implements ThrowingFunction<Integer, Page> {
+	static final long DEFAULT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	/**
+	 * Retrieves the page at the supplied index.
+	 *
+	 * @param index The page index.
+	 * @return The page, or null if there's no page available for that index.
+	 */
+	@Nullable
+	public abstract Page get(int index);
+
+	/**
+	 * Retrieves whether the page at the supplied index is known to be the last one, so the paginator can disable
+	 * forward navigation without requesting the next page. Returns false by default.
+	 *
+	 * @param index The page index.
+	 * @return Whether there are no pages after the supplied index.
+	 */
+	public boolean isLast(int index) {
+		return false;
+	}
+
+	/**
+	 * Releases any resources held by this source. Does nothing by default.
+	 */
+	public void close() {
+	}
+
+	@Override
+	public Page applyThrows(Integer index) throws RuntimeException {
+		return get(index);
+	}
+
+	/**
+	 * Creates a source pulling pages from the supplied {@link Iterator}, see {@link StreamingPageSource}.
+	 *
+	 * @param pages The {@link Iterator} providing pages.
+	 * @return A new {@link StreamingPageSource} with default look-ahead and history.
+	 */
+	public static StreamingPageSource of(@NotNull Iterator<? extends Page> pages) {
+		return new StreamingPageSource(pages, null, StreamingPageSource.DEFAULT_LOOK_AHEAD, StreamingPageSource.DEFAULT_HISTORY);
+	}
+
+	/**
+	 * Creates a source pulling pages from the supplied {@link Stream}, see {@link StreamingPageSource}. The stream is
+	 * closed once exhausted or when the source is closed.
+	 *
+	 * @param pages The {@link Stream} providing pages.
+	 * @return A new {@link StreamingPageSource} with default look-ahead and history.
+	 */
+	public static StreamingPageSource of(@NotNull Stream<? extends Page> pages) {
+		return new StreamingPageSource(pages.iterator(), pages::close, StreamingPageSource.DEFAULT_LOOK_AHEAD, StreamingPageSource.DEFAULT_HISTORY);
+	}
+
+	/**
+	 * Creates a source requesting pages from the supplied {@link Flow.Publisher} as they're needed, see
+	 * {@link StreamingPageSource}. Pulling a page blocks until the publisher emits it, for up to 30 seconds, after
+	 * which the stream is treated as ended. The subscription is cancelled when the source is closed.
+	 *
+	 * @param pages The {@link Flow.Publisher} providing pages.
+	 * @return A new {@link StreamingPageSource} with default look-ahead and history.
+	 */
+	public static StreamingPageSource of(@NotNull Flow.Publisher<? extends Page> pages) {
+		return of(pages, DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Same as {@link #of(Flow.Publisher)}, but with a custom time to wait for each page to be emitted.
+	 *
+	 * @param pages The {@link Flow.Publisher} providing pages.
+	 * @param time  How long to wait for each page before treating the stream as ended.
+	 * @param unit  The {@link TimeUnit} of the supplied time.
+	 * @return A new {@link StreamingPageSource} with default look-ahead and history.
+	 */
+	public static StreamingPageSource of(@NotNull Flow.Publisher<? extends Page> pages, long time, @NotNull TimeUnit unit) {
+		PublisherIterator it = new PublisherIterator(unit.toMillis(time));
+		pages.subscribe(it);
+
+		return new StreamingPageSource(it, it::cancel, StreamingPageSource.DEFAULT_LOOK_AHEAD, StreamingPageSource.DEFAULT_HISTORY);
+	}
+}
@@ -0,0 +1,89 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.Page;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Blocking {@link Iterator} over a {@link Flow.Publisher}, requesting one page at a time. If the publisher takes
+ * longer than the timeout to emit a page, the subscription is cancelled and the stream is treated as ended.
+ */
+class PublisherIterator implements Iterator<Page>, Flow.Subscriber<Page> {
+	private static final Object END = new Object();
+
+	private final CompletableFuture<Flow.Subscription> subscription = new CompletableFuture<>();
+	private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+	private final long timeout;
+	private Object next = null;
+
+	PublisherIterator(long timeout) {
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		this.subscription.complete(subscription);
+	}
+
+	@Override
+	public void onNext(Page item) {
+		queue.add(item);
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		queue.add(throwable);
+	}
+
+	@Override
+	public void onComplete() {
+		queue.add(END);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			try {
+				subscription.get(timeout, TimeUnit.MILLISECONDS).request(1);
+				next = queue.poll(timeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException ignore) {
+			}
+
+			if (next == null) {
+				cancel();
+				next = END;
+			}
+		}
+
+		if (next instanceof Throwable) {
+			Throwable t = (Throwable) next;
+			next = END;
+			throw new RuntimeException("Page publisher failed", t);
+		}
+
+		return next != END;
+	}
+
+	@Override
+	public Page next() {
+		if (!hasNext()) throw new NoSuchElementException();
+
+		Page p = (Page) next;
+		next = null;
+		return p;
+	}
+
+	void cancel() {
+		subscription.thenAccept(Flow.Subscription::cancel);
+	}
+}
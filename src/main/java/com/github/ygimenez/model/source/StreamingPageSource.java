@@ -0,0 +1,143 @@
+package com.github.ygimenez.model.source;
+
+import com.github.ygimenez.model.Page;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+
+/**
+ * {@link PageSource} pulling pages from a forward-only cursor (such as an {@link Iterator}, a
+ * {@link java.util.stream.Stream} or a {@link java.util.concurrent.Flow.Publisher}), so large result sets can be
+ * paginated without loading them all.<br>
+ * <br>
+ * Whenever a page is requested, pages are pulled up to the look-ahead window past it, which lets the paginator know
+ * when the last page was reached (see {@link #isLast(int)}) and serves the following pages from memory. Visited pages are kept in a bounded
+ * ring for back-navigation, and pages older than the history size can no longer be retrieved (except for the first
+ * page, which is always kept).
+ */
+public class StreamingPageSource extends PageSource {
+	static final int DEFAULT_LOOK_AHEAD = 1;
+	static final int DEFAULT_HISTORY = 32;
+
+	private final Iterator<? extends Page> cursor;
+	private final Runnable onClose;
+	private final int lookAhead;
+	private final int history;
+	private Page[] ring;
+	private Page first = null;
+	private int pulled = 0;
+	private boolean exhausted = false;
+	private boolean ended = false;
+
+	/**
+	 * Creates a new {@link StreamingPageSource} over the supplied cursor.
+	 *
+	 * @param cursor    The {@link Iterator} providing pages.
+	 * @param onClose   Action releasing the cursor once exhausted or closed, may be null.
+	 * @param lookAhead How many pages to pull past the requested one.
+	 * @param history   How many pages before the requested one are kept for back-navigation.
+	 */
+	public StreamingPageSource(@NotNull Iterator<? extends Page> cursor, @Nullable Runnable onClose, int lookAhead, int history) {
+		this.cursor = cursor;
+		this.onClose = onClose;
+		this.lookAhead = Math.max(0, lookAhead);
+		this.history = Math.max(0, history);
+		this.ring = new Page[this.lookAhead + this.history + 1];
+	}
+
+	/**
+	 * Creates a copy of this source with a different look-ahead window. Must be called before any page is pulled.
+	 *
+	 * @param lookAhead How many pages to pull past the requested one (default: 1).
+	 * @return The new {@link StreamingPageSource}.
+	 */
+	public StreamingPageSource withLookAhead(int lookAhead) {
+		if (pulled > 0) throw new IllegalStateException();
+		return new StreamingPageSource(cursor, onClose, lookAhead, history);
+	}
+
+	/**
+	 * Creates a copy of this source with a different history size. Must be called before any page is pulled.
+	 *
+	 * @param history How many pages before the requested one are kept for back-navigation (default: 32).
+	 * @return The new {@link StreamingPageSource}.
+	 */
+	public StreamingPageSource withHistory(int history) {
+		if (pulled > 0) throw new IllegalStateException();
+		return new StreamingPageSource(cursor, onClose, lookAhead, history);
+	}
+
+	/**
+	 * Retrieves the look-ahead window.
+	 *
+	 * @return How many pages are pulled past the requested one.
+	 */
+	public int getLookAhead() {
+		return lookAhead;
+	}
+
+	/**
+	 * Retrieves the history size.
+	 *
+	 * @return How many pages before the requested one are kept for back-navigation.
+	 */
+	public int getHistory() {
+		return history;
+	}
+
+	/**
+	 * Retrieves how many pages were pulled from the cursor so far.
+	 *
+	 * @return The amount of pulled pages.
+	 */
+	public synchronized int getPulled() {
+		return pulled;
+	}
+
+	@Nullable
+	@Override
+	public synchronized Page get(int index) {
+		if (index < 0) return null;
+		else if (index == 0 && pulled > 0) return first;
+
+		fill(index + lookAhead);
+		if (index >= pulled || index < pulled - ring.length) return null;
+
+		return ring[index % ring.length];
+	}
+
+	@Override
+	public synchronized boolean isLast(int index) {
+		return ended && index >= pulled - 1;
+	}
+
+	@Override
+	public synchronized void close() {
+		release();
+		ring = new Page[ring.length];
+	}
+
+	private void release() {
+		if (!exhausted) {
+			exhausted = true;
+			if (onClose != null) onClose.run();
+		}
+	}
+
+	private void fill(int upTo) {
+		while (!exhausted && pulled <= upTo) {
+			if (!cursor.hasNext()) {
+				ended = true;
+				release();
+				return;
+			}
+
+			Page p = cursor.next();
+			if (pulled == 0) first = p;
+
+			ring[pulled % ring.length] = p;
+			pulled++;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.github.ygimenez.model.store;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Properties;
+
+/**
+ * Reference {@link SessionStore} keeping one properties file per event in a directory, which may be shared between
+ * processes on the same machine (or through a network file system). Meant for testing multi-node setups rather than
+ * production use.
+ */
+public class FileSessionStore implements SessionStore {
+	private final Path dir;
+
+	/**
+	 * Creates a new {@link FileSessionStore}, creating the directory if needed.
+	 *
+	 * @param dir The directory holding the records.
+	 * @throws UncheckedIOException Thrown if the directory cannot be created.
+	 */
+	public FileSessionStore(@NotNull Path dir) {
+		this.dir = dir;
+
+		try {
+			Files.createDirectories(dir);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void save(@NotNull SessionRecord record) {
+		Properties props = new Properties();
+		props.setProperty("id", record.getId());
+		props.setProperty("type", record.getType());
+		props.setProperty("key", record.getKey());
+		props.setProperty("guild", String.valueOf(record.getGuildId()));
+		props.setProperty("channel", String.valueOf(record.getChannelId()));
+		props.setProperty("message", String.valueOf(record.getMessageId()));
+		props.setProperty("owner", String.valueOf(record.getOwnerId()));
+		props.setProperty("expires", String.valueOf(record.getExpiresAt()));
+
+		try {
+			Path tmp = Files.createTempFile(dir, record.getId(), ".tmp");
+			try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				props.store(w, null);
+			}
+
+			Files.move(tmp, getPath(record.getId()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Nullable
+	@Override
+	public SessionRecord load(@NotNull String id) {
+		Properties props = new Properties();
+		try (Reader r = Files.newBufferedReader(getPath(id), StandardCharsets.UTF_8)) {
+			props.load(r);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return new SessionRecord(
+				props.getProperty("id"),
+				props.getProperty("type"),
+				props.getProperty("key"),
+				Long.parseLong(props.getProperty("guild")),
+				Long.parseLong(props.getProperty("channel")),
+				Long.parseLong(props.getProperty("message")),
+				Long.parseLong(props.getProperty("owner")),
+				Long.parseLong(props.getProperty("expires"))
+		);
+	}
+
+	@Override
+	public void remove(@NotNull String id) {
+		try {
+			Files.deleteIfExists(getPath(id));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path getPath(String id) {
+		return dir.resolve(id + ".properties");
+	}
+}
@@ -0,0 +1,124 @@
+package com.github.ygimenez.model.store;
+
+import com.github.ygimenez.model.helper.BaseHelper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shareable description of an active event, as persisted in a {@link SessionStore}. It holds no pages or actions,
+ * only what's needed to locate the event's message and rebuild its helper from the application-defined key (see
+ * {@link BaseHelper#setSessionKey(String)}).
+ */
+public class SessionRecord {
+	private final String id;
+	private final String type;
+	private final String key;
+	private final long guildId;
+	private final long channelId;
+	private final long messageId;
+	private final long ownerId;
+	private final long expiresAt;
+
+	/**
+	 * Creates a new {@link SessionRecord}.
+	 *
+	 * @param id        The event ID.
+	 * @param type      The simple name of the helper class which created the event.
+	 * @param key       The application-defined key used to rebuild the helper.
+	 * @param guildId   The ID of the guild holding the event, or 0 if in a private channel.
+	 * @param channelId The ID of the channel holding the event.
+	 * @param messageId The ID of the message holding the event.
+	 * @param ownerId   The ID of the user owning the event, or 0 if unknown.
+	 * @param expiresAt When the event times out, in epoch milliseconds, or 0 if it doesn't.
+	 */
+	public SessionRecord(@NotNull String id, @NotNull String type, @NotNull String key, long guildId, long channelId, long messageId, long ownerId, long expiresAt) {
+		this.id = id;
+		this.type = type;
+		this.key = key;
+		this.guildId = guildId;
+		this.channelId = channelId;
+		this.messageId = messageId;
+		this.ownerId = ownerId;
+		this.expiresAt = expiresAt;
+	}
+
+	/**
+	 * Retrieves the event ID.
+	 *
+	 * @return The event ID.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Retrieves the simple name of the helper class which created the event (such as {@code ButtonizeHelper}).
+	 *
+	 * @return The helper type.
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves the application-defined key used to rebuild the helper.
+	 *
+	 * @return The session key.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Retrieves the ID of the guild holding the event.
+	 *
+	 * @return The guild ID, or 0 if in a private channel.
+	 */
+	public long getGuildId() {
+		return guildId;
+	}
+
+	/**
+	 * Retrieves the ID of the channel holding the event.
+	 *
+	 * @return The channel ID.
+	 */
+	public long getChannelId() {
+		return channelId;
+	}
+
+	/**
+	 * Retrieves the ID of the message holding the event.
+	 *
+	 * @return The message ID.
+	 */
+	public long getMessageId() {
+		return messageId;
+	}
+
+	/**
+	 * Retrieves the ID of the user owning the event.
+	 *
+	 * @return The owner's ID, or 0 if unknown.
+	 */
+	public long getOwnerId() {
+		return ownerId;
+	}
+
+	/**
+	 * Retrieves when the event times out.
+	 *
+	 * @return The expiration time in epoch milliseconds, or 0 if it doesn't time out.
+	 */
+	public long getExpiresAt() {
+		return expiresAt;
+	}
+
+	/**
+	 * Checks whether the event has already timed out.
+	 *
+	 * @return Whether the event is expired.
+	 */
+	public boolean isExpired() {
+		return expiresAt > 0 && expiresAt <= System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,42 @@
+package com.github.ygimenez.model.store;
+
+import com.github.ygimenez.model.PaginatorBuilder;
+import com.github.ygimenez.model.helper.BaseHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared storage of active events, allowing an event created on one node to be resumed on another (such as after a
+ * shard migrates between processes) without sticky routing. Set through
+ * {@link PaginatorBuilder#setSessionStore(SessionStore, com.github.ygimenez.model.ThrowingFunction)}.
+ * <br><br>
+ * Only events whose helper has a session key (see {@link BaseHelper#setSessionKey(String)}) are stored. When an
+ * interaction targets an event missing locally, its record is loaded from the store and the helper is rebuilt from
+ * it, so stored helpers should be stateless: rehydrated paginations resume from their first page.
+ * <br><br>
+ * Methods are called from event threads, so implementations should either be fast or cache their results.
+ */
+public interface SessionStore {
+	/**
+	 * Saves or replaces the record of an active event.
+	 *
+	 * @param record The {@link SessionRecord} to be saved.
+	 */
+	void save(@NotNull SessionRecord record);
+
+	/**
+	 * Loads the record of an event.
+	 *
+	 * @param id The event ID.
+	 * @return The {@link SessionRecord}, or null if there's none.
+	 */
+	@Nullable
+	SessionRecord load(@NotNull String id);
+
+	/**
+	 * Removes the record of an event which has ended.
+	 *
+	 * @param id The event ID.
+	 */
+	void remove(@NotNull String id);
+}
@@ -2,6 +2,7 @@ package com.github.ygimenez.type;
 
 import com.github.ygimenez.method.Pages;
 import com.github.ygimenez.model.ButtonId;
+import com.github.ygimenez.model.Paginator;
 import com.github.ygimenez.model.TextId;
 import net.dv8tion.jda.api.components.buttons.Button;
 import net.dv8tion.jda.api.components.buttons.ButtonStyle;
@@ -51,6 +52,16 @@ public enum Action {
 	 * {@link Action} representing the "go to last" button (default: ⏭).
 	 */
 	GOTO_LAST(Emoji.fromUnicode("⏭"), ButtonStyle.SECONDARY),
+	/**
+	 * {@link Action} representing the "go to page" button, which opens a modal asking for the page number
+	 * (default: 🔢). Only available for interaction buttons.
+	 */
+	GOTO_PAGE(Emoji.fromUnicode("🔢"), ButtonStyle.SECONDARY),
+	/**
+	 * {@link Action} representing the "search" button, which opens a modal asking for a query and goes to the next
+	 * matching page (default: 🔍). Only available for interaction buttons.
+	 */
+	SEARCH(Emoji.fromUnicode("🔍"), ButtonStyle.SECONDARY),
 	/**
 	 * {@link Action} representing nothing.
 	 */
@@ -89,7 +100,18 @@ public enum Action {
 	 * @return The respective {@link Action}, or {@link #NONE} if it didn't match any.
 	 */
 	public static Action getByEmoji(@NotNull Emoji emoji) {
-		for (Map.Entry<Action, Emoji> entry : Pages.getPaginator().getEmotes().entrySet()) {
+		return getByEmoji(Pages.getPaginator(), emoji);
+	}
+
+	/**
+	 * Retrieves the {@link Action} linked to supplied {@link Emoji}, as configured in the supplied {@link Paginator}.
+	 *
+	 * @param paginator The {@link Paginator} holding custom emojis, or null to only check default ones.
+	 * @param emoji     The {@link Emoji} to be searched for.
+	 * @return The respective {@link Action}, or {@link #NONE} if it didn't match any.
+	 */
+	public static Action getByEmoji(@Nullable Paginator paginator, @NotNull Emoji emoji) {
+		if (paginator != null) for (Map.Entry<Action, Emoji> entry : paginator.getEmotes().entrySet()) {
 			if (Objects.equals(entry.getValue(), emoji)) return entry.getKey();
 		}
 
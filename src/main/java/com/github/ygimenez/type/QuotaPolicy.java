@@ -0,0 +1,24 @@
+package com.github.ygimenez.type;
+
+import com.github.ygimenez.exception.QuotaExceededException;
+import com.github.ygimenez.model.PaginatorBuilder;
+
+/**
+ * Enumerator representing what happens when creating an event would exceed one of the quotas set through
+ * {@link PaginatorBuilder#setGuildQuota(int)} or {@link PaginatorBuilder#setUserQuota(int)}.
+ */
+public enum QuotaPolicy {
+	/**
+	 * The new event is rejected with a {@link QuotaExceededException}.
+	 */
+	REJECT,
+	/**
+	 * The oldest event within the exceeded quota is cancelled to make room for the new one.
+	 */
+	REPLACE_OLDEST,
+	/**
+	 * The oldest event owned by the same user within the exceeded quota is cancelled to make room for the new one. If
+	 * the user has no such event (or the new event has no owner), it is rejected with a {@link QuotaExceededException}.
+	 */
+	REPLACE_SAME_USER
+}